@@ -0,0 +1,276 @@
+package com.example.spring_dblab.alarm;
+
+import com.example.spring_dblab.dto.AlarmWordView;
+import com.example.spring_dblab.repository.UserAlarmRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 단어와 구독자를 메모리에 유지하는 색인.
+ * 애플리케이션 시작 시 한 번 적재한 뒤 알림 단어 등록/삭제마다 갱신하며,
+ * 변경 시에는 읽기 전용 스냅샷을 새로 만들어 교체하므로 매칭은 잠금 없이 수행된다.
+ * 새로운 단어는 다음 재구성 전까지 보조 목록으로 검사하고, 주기적으로 user_alarm 테이블과 대조해 어긋남을 바로잡는다.
+ * (사용자, 단어) 조합마다 즉시 받기와 모아 받기(digest) 등록을 따로 기록하며, 둘 다 있다면 즉시 받기를 따른다.
+ */
+@Component
+@Slf4j
+public class AlarmWordIndex {
+    private final UserAlarmRepository userAlarmRepository;
+    private final Timer rebuildTimer;
+
+    private final Object writeLock = new Object();
+    private final Map<String, Set<Long>> subscribersByWord = new HashMap<>();
+    private final Map<Long, String> emailByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> immediateWordsByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> digestWordsByUser = new ConcurrentHashMap<>();
+    private long subscriptionCount = 0;
+    private long writeSequence = 0;
+
+    private volatile Snapshot snapshot = new Snapshot(new AlarmWordMatcher(Map.of()), Map.of());
+
+    public AlarmWordIndex(UserAlarmRepository userAlarmRepository, MeterRegistry meterRegistry) {
+        this.userAlarmRepository = userAlarmRepository;
+        this.rebuildTimer = Timer.builder("alarm.index.rebuild").register(meterRegistry);
+        Gauge.builder("alarm.index.words", this, index -> index.snapshot.matcher.wordCount() + index.snapshot.pending.size())
+                .register(meterRegistry);
+        Gauge.builder("alarm.index.pending.words", this, index -> index.snapshot.pending.size())
+                .register(meterRegistry);
+        Gauge.builder("alarm.index.subscriptions", this, AlarmWordIndex::getSubscriptionCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주어진 문자열에 포함된 알림 단어를 찾아 사용자별로 묶어 반환합니다.
+     *
+     * @param text 검사할 문자열
+     * @return 사용자 ID와 해당 사용자가 등록한 일치 단어 목록
+     */
+    public Map<Long, Set<String>> match(String text) {
+        Snapshot current = snapshot;
+        Map<Long, Set<String>> result = current.matcher.findSubscribers(text);
+        if (text == null) {
+            return result;
+        }
+
+        for (Map.Entry<String, List<Long>> pending : current.pending.entrySet()) {
+            if (text.contains(pending.getKey())) {
+                for (Long userId : pending.getValue()) {
+                    result.computeIfAbsent(userId, key -> new LinkedHashSet<>()).add(pending.getKey());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 색인에 기록된 사용자의 이메일 주소를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 이메일 주소, 알 수 없는 사용자라면 null
+     */
+    public String getEmail(Long userId) {
+        return emailByUser.get(userId);
+    }
+
+    /**
+     * 사용자가 주어진 단어를 모아 받기로 받는지 확인합니다.
+     * 같은 단어를 즉시 받기로도 등록했다면 즉시 받기를 따릅니다.
+     *
+     * @param userId 사용자 ID
+     * @param word 알림 단어
+     * @return 모아 받기로만 등록했다면 true
+     */
+    public boolean isDigest(Long userId, String word) {
+        return hasWord(digestWordsByUser, userId, word) && !hasWord(immediateWordsByUser, userId, word);
+    }
+
+    /**
+     * 사용자의 알림 단어를 색인에 추가합니다.
+     *
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @param word 알림 단어
+     * @param digest 모아 받기 여부
+     */
+    public void add(Long userId, String email, String word, boolean digest) {
+        if (word == null || word.isEmpty()) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            writeSequence++;
+            emailByUser.put(userId, email);
+            setWord(digest ? digestWordsByUser : immediateWordsByUser, userId, word, true);
+            Set<Long> subscribers = subscribersByWord.computeIfAbsent(word, key -> new HashSet<>());
+            if (subscribers.add(userId)) {
+                subscriptionCount++;
+                publish(word, subscribers);
+            }
+        }
+    }
+
+    /**
+     * 사용자의 알림 단어 등록 하나를 색인에서 제거합니다.
+     * 같은 단어를 다른 방식으로도 등록했다면 구독은 유지됩니다.
+     *
+     * @param userId 사용자 ID
+     * @param word 알림 단어
+     * @param digest 제거한 등록의 모아 받기 여부
+     */
+    public void remove(Long userId, String word, boolean digest) {
+        synchronized (writeLock) {
+            writeSequence++;
+            setWord(digest ? digestWordsByUser : immediateWordsByUser, userId, word, false);
+            if (hasWord(immediateWordsByUser, userId, word) || hasWord(digestWordsByUser, userId, word)) {
+                return;
+            }
+
+            Set<Long> subscribers = subscribersByWord.get(word);
+            if (subscribers == null || !subscribers.remove(userId)) {
+                return;
+            }
+
+            subscriptionCount--;
+            if (subscribers.isEmpty()) {
+                subscribersByWord.remove(word);
+            }
+            publish(word, subscribers);
+        }
+    }
+
+    /**
+     * 보조 목록에 쌓인 새 단어를 포함해 오토마톤을 다시 구성합니다.
+     */
+    @Scheduled(fixedDelayString = "${alarm.index.compact-delay-ms}")
+    public void compact() {
+        if (snapshot.pending.isEmpty()) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            rebuild();
+        }
+    }
+
+    /**
+     * user_alarm 테이블 전체를 읽어 색인을 다시 구성합니다.
+     * 읽는 동안 색인에 변경이 있었다면 이번 대조는 건너뛰고 다음 주기에 다시 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${alarm.index.reconcile-interval-ms}", fixedDelayString = "${alarm.index.reconcile-interval-ms}")
+    public void reconcile() {
+        long sequence;
+        synchronized (writeLock) {
+            sequence = writeSequence;
+        }
+
+        List<AlarmWordView> alarmWords = userAlarmRepository.findAllAlarmWords();
+
+        synchronized (writeLock) {
+            if (sequence != writeSequence) {
+                log.info("reconcile : Skipped, index changed while loading");
+                return;
+            }
+
+            Map<String, Set<Long>> loaded = new HashMap<>();
+            Map<Long, Set<String>> loadedImmediate = new HashMap<>();
+            Map<Long, Set<String>> loadedDigest = new HashMap<>();
+            long loadedCount = 0;
+            for (AlarmWordView alarmWord : alarmWords) {
+                if (alarmWord.getWord() == null || alarmWord.getWord().isEmpty()) {
+                    continue;
+                }
+                emailByUser.put(alarmWord.getUserId(), alarmWord.getEmail());
+                if (loaded.computeIfAbsent(alarmWord.getWord(), key -> new HashSet<>()).add(alarmWord.getUserId())) {
+                    loadedCount++;
+                }
+                (alarmWord.isDigest() ? loadedDigest : loadedImmediate)
+                        .computeIfAbsent(alarmWord.getUserId(), key -> new HashSet<>()).add(alarmWord.getWord());
+            }
+
+            if (!loaded.equals(subscribersByWord)) {
+                log.info("reconcile : Drift detected, index " + subscriptionCount + " / table " + loadedCount);
+            }
+
+            replaceWords(immediateWordsByUser, loadedImmediate);
+            replaceWords(digestWordsByUser, loadedDigest);
+            subscribersByWord.clear();
+            subscribersByWord.putAll(loaded);
+            subscriptionCount = loadedCount;
+            rebuild();
+        }
+    }
+
+    public long getSubscriptionCount() {
+        synchronized (writeLock) {
+            return subscriptionCount;
+        }
+    }
+
+    private static boolean hasWord(Map<Long, Set<String>> wordsByUser, Long userId, String word) {
+        return wordsByUser.getOrDefault(userId, Set.of()).contains(word);
+    }
+
+    private static void setWord(Map<Long, Set<String>> wordsByUser, Long userId, String word, boolean registered) {
+        Set<String> words = new HashSet<>(wordsByUser.getOrDefault(userId, Set.of()));
+        if (registered ? !words.add(word) : !words.remove(word)) {
+            return;
+        }
+
+        if (words.isEmpty()) {
+            wordsByUser.remove(userId);
+        } else {
+            wordsByUser.put(userId, Set.copyOf(words));
+        }
+    }
+
+    private static void replaceWords(Map<Long, Set<String>> wordsByUser, Map<Long, Set<String>> loaded) {
+        loaded.forEach((userId, words) -> wordsByUser.put(userId, Set.copyOf(words)));
+        wordsByUser.keySet().retainAll(loaded.keySet());
+    }
+
+    private void publish(String word, Set<Long> subscribers) {
+        Snapshot current = snapshot;
+        int wordIndex = current.matcher.indexOf(word);
+
+        if (wordIndex >= 0) {
+            snapshot = new Snapshot(current.matcher.withSubscribers(wordIndex, subscribers), current.pending);
+            return;
+        }
+
+        Map<String, List<Long>> pending = new HashMap<>(current.pending);
+        if (subscribers.isEmpty()) {
+            pending.remove(word);
+        } else {
+            pending.put(word, List.copyOf(subscribers));
+        }
+        snapshot = new Snapshot(current.matcher, pending);
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        snapshot = new Snapshot(new AlarmWordMatcher(subscribersByWord), Map.of());
+        rebuildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.info("rebuild : " + subscribersByWord.size() + " words, " + subscriptionCount + " subscriptions");
+    }
+
+    private static class Snapshot {
+        private final AlarmWordMatcher matcher;
+        private final Map<String, List<Long>> pending;
+
+        private Snapshot(AlarmWordMatcher matcher, Map<String, List<Long>> pending) {
+            this.matcher = matcher;
+            this.pending = Collections.unmodifiableMap(pending);
+        }
+    }
+}
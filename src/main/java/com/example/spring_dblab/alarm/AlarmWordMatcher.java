@@ -0,0 +1,227 @@
+package com.example.spring_dblab.alarm;
+
+import java.util.*;
+
+/**
+ * 알림 단어 목록으로 구성한 Aho-Corasick 오토마톤.
+ * 이벤트 설명을 한 번만 훑어 포함된 모든 알림 단어와 각 단어의 구독자를 찾는다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 잠금 없이 공유할 수 있다.
+ */
+public class AlarmWordMatcher {
+    private static final int ROOT = 0;
+    private static final long[] NO_SUBSCRIBERS = new long[0];
+
+    private final char[][] keys;
+    private final int[][] children;
+    private final int[] fail;
+    private final int[] wordAt;
+    private final int[] dictLink;
+    private final String[] words;
+    private final long[][] subscribers;
+
+    /**
+     * 단어별 구독자 목록으로 오토마톤을 생성합니다.
+     * 빈 단어는 무시하며, 같은 (사용자, 단어) 조합이 여러 번 주어져도 한 번만 저장합니다.
+     *
+     * @param subscribersByWord 알림 단어와 해당 단어를 등록한 사용자 ID 목록
+     */
+    public AlarmWordMatcher(Map<String, ? extends Collection<Long>> subscribersByWord) {
+        List<String> wordList = new ArrayList<>();
+        List<long[]> subscriberList = new ArrayList<>();
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> wordAtList = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        wordAtList.add(-1);
+
+        for (Map.Entry<String, ? extends Collection<Long>> entry : subscribersByWord.entrySet()) {
+            String word = entry.getKey();
+            if (word == null || word.isEmpty()) {
+                continue;
+            }
+
+            int node = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                Integer next = trie.get(node).get(word.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(word.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    wordAtList.add(-1);
+                }
+                node = next;
+            }
+
+            if (wordAtList.get(node) < 0) {
+                wordAtList.set(node, wordList.size());
+                wordList.add(word);
+                subscriberList.add(toSortedArray(entry.getValue()));
+            }
+        }
+
+        int size = trie.size();
+        this.keys = new char[size][];
+        this.children = new int[size][];
+        this.fail = new int[size];
+        this.wordAt = new int[size];
+        this.dictLink = new int[size];
+        this.words = wordList.toArray(new String[0]);
+        this.subscribers = subscriberList.toArray(new long[0][]);
+
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            keys[node] = new char[edges.size()];
+            children[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                keys[node][i] = edge.getKey();
+                children[node][i] = edge.getValue();
+                i++;
+            }
+            wordAt[node] = wordAtList.get(node);
+        }
+
+        buildFailureLinks();
+    }
+
+    private AlarmWordMatcher(AlarmWordMatcher source, long[][] subscribers) {
+        this.keys = source.keys;
+        this.children = source.children;
+        this.fail = source.fail;
+        this.wordAt = source.wordAt;
+        this.dictLink = source.dictLink;
+        this.words = source.words;
+        this.subscribers = subscribers;
+    }
+
+    /**
+     * 오토마톤 구조는 공유하고 한 단어의 구독자 목록만 교체한 새 인스턴스를 반환합니다.
+     * 이미 등록된 단어의 구독자가 바뀔 때 전체 오토마톤을 다시 만들지 않기 위해 사용합니다.
+     *
+     * @param wordIndex 구독자를 교체할 단어의 인덱스
+     * @param userIds 새 구독자 ID 목록
+     * @return 구독자 목록이 교체된 오토마톤
+     */
+    AlarmWordMatcher withSubscribers(int wordIndex, Collection<Long> userIds) {
+        long[][] copy = subscribers.clone();
+        copy[wordIndex] = toSortedArray(userIds);
+        return new AlarmWordMatcher(this, copy);
+    }
+
+    /**
+     * 주어진 단어가 오토마톤에 등록되어 있다면 해당 인덱스를 반환합니다.
+     *
+     * @param word 찾을 단어
+     * @return 단어 인덱스, 등록되지 않은 단어라면 -1
+     */
+    int indexOf(String word) {
+        int node = ROOT;
+        for (int i = 0; i < word.length() && node >= 0; i++) {
+            node = child(node, word.charAt(i));
+        }
+        return node < 0 ? -1 : wordAt[node];
+    }
+
+    /**
+     * 오토마톤에 등록된 서로 다른 알림 단어의 수를 반환합니다.
+     *
+     * @return 알림 단어 수
+     */
+    public int wordCount() {
+        return words.length;
+    }
+
+    /**
+     * 주어진 문자열에 포함된 알림 단어를 모두 찾습니다.
+     *
+     * @param text 검사할 문자열
+     * @return 문자열에 포함된 알림 단어 목록
+     */
+    public Set<String> findWords(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        BitSet matched = scan(text);
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            found.add(words[i]);
+        }
+        return found;
+    }
+
+    /**
+     * 주어진 문자열에 포함된 알림 단어를 찾아 사용자별로 묶어 반환합니다.
+     * 한 사용자가 여러 단어와 일치하더라도 결과에는 한 번만 포함됩니다.
+     *
+     * @param text 검사할 문자열
+     * @return 사용자 ID와 해당 사용자가 등록한 일치 단어 목록
+     */
+    public Map<Long, Set<String>> findSubscribers(String text) {
+        Map<Long, Set<String>> result = new LinkedHashMap<>();
+        BitSet matched = scan(text);
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            for (long userId : subscribers[i]) {
+                result.computeIfAbsent(userId, key -> new LinkedHashSet<>()).add(words[i]);
+            }
+        }
+        return result;
+    }
+
+    private BitSet scan(String text) {
+        BitSet matched = new BitSet(words.length);
+        if (text == null || words.length == 0) {
+            return matched;
+        }
+
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next = child(state, c);
+            while (next < 0 && state != ROOT) {
+                state = fail[state];
+                next = child(state, c);
+            }
+            state = next < 0 ? ROOT : next;
+
+            for (int node = wordAt[state] >= 0 ? state : dictLink[state]; node != ROOT; node = dictLink[node]) {
+                matched.set(wordAt[node]);
+            }
+        }
+        return matched;
+    }
+
+    private void buildFailureLinks() {
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : children[ROOT]) {
+            fail[child] = ROOT;
+            dictLink[child] = ROOT;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < keys[node].length; i++) {
+                char c = keys[node][i];
+                int child = children[node][i];
+
+                int state = fail[node];
+                int next = child(state, c);
+                while (next < 0 && state != ROOT) {
+                    state = fail[state];
+                    next = child(state, c);
+                }
+                fail[child] = next < 0 ? ROOT : next;
+                dictLink[child] = wordAt[fail[child]] >= 0 ? fail[child] : dictLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    private int child(int node, char c) {
+        int index = Arrays.binarySearch(keys[node], c);
+        return index < 0 ? -1 : children[node][index];
+    }
+
+    private static long[] toSortedArray(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return NO_SUBSCRIBERS;
+        }
+        return userIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.spring_dblab.archive;
+
+import com.example.spring_dblab.entitiy.ArchivedEvent;
+import com.example.spring_dblab.entitiy.ArchivedEventReview;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 보관된 이벤트 조회와 관련된 HTTP 요청을 처리하는 컨트롤러.
+ */
+@RestController
+@RequestMapping("/archive")
+@RequiredArgsConstructor
+public class ArchiveController {
+    private final ArchiveService archiveService;
+
+    /**
+     * 보관된 이벤트를 반환합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 보관된 이벤트
+     * @throws Exception 보관된 이벤트가 없는 경우
+     */
+    @GetMapping("/event")
+    public ArchivedEvent getArchivedEvent(@RequestParam(name="id") long eventId) throws Exception {
+        return archiveService.getArchivedEvent(eventId);
+    }
+
+    /**
+     * 보관된 이벤트의 리뷰를 최신순으로 반환합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param page 페이지 번호
+     * @return 해당 페이지의 리뷰 목록
+     * @throws Exception 페이지 번호가 올바르지 않은 경우
+     */
+    @GetMapping("/review")
+    public List<ArchivedEventReview> getArchivedReviews(@RequestParam(name="id") long eventId,
+                                                        @RequestParam(name="page", defaultValue = "1") int page) throws Exception {
+        return archiveService.getArchivedReviews(eventId, page);
+    }
+
+    /**
+     * 현재 사용자가 보관된 이벤트에 참여했었는지 반환합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 참여했었다면 true
+     * @throws Exception 사용자를 찾을 수 없는 경우
+     */
+    @GetMapping("/participate")
+    public boolean checkArchivedParticipation(@RequestParam(name="id") long eventId) throws Exception {
+        return archiveService.checkArchivedParticipation(eventId);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.spring_dblab.archive;
+
+import com.example.spring_dblab.entitiy.ArchivedEvent;
+import com.example.spring_dblab.entitiy.ArchivedEventReview;
+import com.example.spring_dblab.entitiy.User;
+import com.example.spring_dblab.repository.ArchivedEventParticipationRepository;
+import com.example.spring_dblab.repository.ArchivedEventRepository;
+import com.example.spring_dblab.repository.ArchivedEventReviewRepository;
+import com.example.spring_dblab.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.spring_dblab.utils.SecurityUtil.getCurrentMemberEmail;
+
+/**
+ * 보관 테이블로 옮겨진 이벤트의 조회 기능을 제공하는 클래스.
+ * 이벤트 목록과 검색은 보관되지 않은 이벤트만 대상으로 하며, 보관된 이벤트는 이 클래스를 통해서만 조회한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ArchiveService {
+    private static final int PAGE_SIZE = 20;
+
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchivedEventParticipationRepository archivedEventParticipationRepository;
+    private final ArchivedEventReviewRepository archivedEventReviewRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 보관된 이벤트를 조회합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 보관된 이벤트
+     * @throws Exception 보관된 이벤트가 없는 경우
+     */
+    public ArchivedEvent getArchivedEvent(long eventId) throws Exception {
+        try {
+            Optional<ArchivedEvent> event = archivedEventRepository.findById(eventId);
+            if(event.isPresent()) {
+                log.info("getArchivedEvent : Success");
+                return event.get();
+            }
+            log.error("getArchivedEvent : Not Found Event");
+            throw new Exception("Not Found Event");
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
+    /**
+     * 보관된 이벤트의 리뷰를 최신순으로 페이지 단위로 조회합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param page 페이지 번호
+     * @return 해당 페이지의 리뷰 목록
+     * @throws Exception 페이지 번호가 올바르지 않은 경우
+     */
+    public List<ArchivedEventReview> getArchivedReviews(long eventId, int page) throws Exception {
+        try {
+            if(page > 0) {
+                log.info("getArchivedReviews : Success");
+                return archivedEventReviewRepository.findByEventIdOrderByIdDesc(eventId, PageRequest.of(page - 1, PAGE_SIZE));
+            }
+            log.error("getArchivedReviews : Not Found Page");
+            throw new Exception("Not Found Page");
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
+    /**
+     * 현재 사용자가 보관된 이벤트에 참여했었는지 확인합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 참여했었다면 true
+     * @throws Exception 사용자를 찾을 수 없는 경우
+     */
+    public boolean checkArchivedParticipation(long eventId) throws Exception {
+        try {
+            Optional<User> user = userRepository.findByEmail(getCurrentMemberEmail());
+
+            if(user.isPresent()) {
+                log.info("checkArchivedParticipation : Success");
+                return archivedEventParticipationRepository.existsByEventIdAndUserId(eventId, user.get().getId());
+            }
+
+            log.error("checkArchivedParticipation : Not Found User");
+            throw new Exception("Not Found User");
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+}
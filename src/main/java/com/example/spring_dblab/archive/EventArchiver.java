@@ -0,0 +1,94 @@
+package com.example.spring_dblab.archive;
+
+import com.example.spring_dblab.event.EventRemover;
+import com.example.spring_dblab.repository.ArchivedEventParticipationRepository;
+import com.example.spring_dblab.repository.ArchivedEventRepository;
+import com.example.spring_dblab.repository.ArchivedEventReviewRepository;
+import com.example.spring_dblab.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 이벤트를 참여 기록, 리뷰와 함께 보관 테이블로 옮기는 작업.
+ * 생성된 지 정해진 기간이 지난 이벤트를 정해진 수씩 잠가 INSERT ... SELECT로 복사한 뒤 원래 테이블에서 삭제하며,
+ * 한 묶음은 하나의 트랜잭션으로 처리되므로 일부만 옮겨진 이벤트는 남지 않는다.
+ * hot event는 메모리 카운터가 참여 기록을 쓰고 있을 수 있으므로 옮기지 않는다.
+ */
+@Component
+@Slf4j
+public class EventArchiver {
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchivedEventParticipationRepository archivedEventParticipationRepository;
+    private final ArchivedEventReviewRepository archivedEventReviewRepository;
+    private final EventRepository eventRepository;
+    private final EventRemover eventRemover;
+    private final TransactionTemplate transactionTemplate;
+    private final long ageDays;
+    private final int batchSize;
+
+    public EventArchiver(ArchivedEventRepository archivedEventRepository,
+                         ArchivedEventParticipationRepository archivedEventParticipationRepository,
+                         ArchivedEventReviewRepository archivedEventReviewRepository,
+                         EventRepository eventRepository,
+                         EventRemover eventRemover,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${event.archive.age-days}") long ageDays,
+                         @Value("${event.archive.batch-size}") int batchSize) {
+        this.archivedEventRepository = archivedEventRepository;
+        this.archivedEventParticipationRepository = archivedEventParticipationRepository;
+        this.archivedEventReviewRepository = archivedEventReviewRepository;
+        this.eventRepository = eventRepository;
+        this.eventRemover = eventRemover;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ageDays = ageDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 보관 대상 이벤트가 남지 않을 때까지 묶음 단위로 옮깁니다.
+     */
+    @Scheduled(initialDelayString = "${event.archive.interval-ms}", fixedDelayString = "${event.archive.interval-ms}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(ageDays);
+        long archived = 0;
+        int moved;
+        do {
+            moved = archiveBatch(cutoff);
+            archived += moved;
+        } while (moved == batchSize);
+
+        if (archived > 0) {
+            log.info("archive : " + archived + " events archived");
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        try {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> eventIds = archivedEventRepository.lockArchivableIds(cutoff, batchSize);
+                if (eventIds.isEmpty()) {
+                    return 0;
+                }
+
+                archivedEventRepository.copyFromEvent(eventIds, LocalDateTime.now());
+                archivedEventParticipationRepository.copyFromEventParticipation(eventIds);
+                archivedEventReviewRepository.copyFromEventReview(eventIds);
+                eventRemover.deleteDependents(eventIds);
+                eventRepository.deleteAllByIdInBatch(eventIds);
+                eventRemover.afterCommitRemoved(eventIds);
+                return eventIds.size();
+            });
+            return moved == null ? 0 : moved;
+        } catch (Exception err) {
+            log.error("archive : Failed, " + err);
+            return 0;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.example.spring_dblab.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 import java.util.Properties;
@@ -26,13 +25,16 @@ public class MailConfig {
     @Value("${spring.mail.password}")
     private String password;
 
+    @Value("${notification.smtp.debug}")
+    private boolean debug;
+
     /**
      * JavaMailSender 빈을 구성하고 반환합니다.
      *
      * @return 구성된 JavaMailSender
      */
     @Bean
-    public JavaMailSender javaMailService() {
+    public JavaMailSenderImpl javaMailService() {
         JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
 
         javaMailSender.setHost(host);
@@ -49,6 +51,7 @@ public class MailConfig {
     /**
      * 메일 서버의 속성을 설정합니다.
      * SMTP 프로토콜, 인증, TLS, 디버그 모드 등의 속성을 포함합니다.
+     * 디버그 모드는 메일마다 SMTP 대화 전체를 출력하므로 설정으로 켤 때만 사용합니다.
      *
      * @return 메일 서버의 속성을 담은 Properties 객체
      */
@@ -57,7 +60,7 @@ public class MailConfig {
         properties.setProperty("mail.transport.protocol", "smtp");
         properties.setProperty("mail.smtp.auth", "true");
         properties.setProperty("mail.smtp.starttls.enable", "true");
-        properties.setProperty("mail.debug", "true");
+        properties.setProperty("mail.debug", String.valueOf(debug));
         properties.setProperty("mail.smtp.starttls.required","true");
         return properties;
     }
@@ -3,6 +3,7 @@ package com.example.spring_dblab.config;
 import com.example.spring_dblab.enums.RoleEnum;
 import com.example.spring_dblab.jwt.JwtAuthenticationFilter;
 import com.example.spring_dblab.jwt.JwtTokenProvider;
+import com.example.spring_dblab.participate.ParticipateAdmissionInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -25,6 +27,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class MyConfiguration implements WebMvcConfigurer{
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final ParticipateAdmissionInterceptor participateAdmissionInterceptor;
     private final long MAX_AGE_SECS = 3600;
 
     @Override
@@ -36,6 +39,12 @@ public class MyConfiguration implements WebMvcConfigurer{
                 .allowCredentials(true);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(participateAdmissionInterceptor)
+                .addPathPatterns("/participate", "/participate/", "/participate/batch");
+    }
+
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
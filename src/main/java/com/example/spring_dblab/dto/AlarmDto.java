@@ -9,4 +9,5 @@ import lombok.Setter;
 @Setter
 public class AlarmDto {
     String word;
+    boolean digest;
 }
@@ -0,0 +1,8 @@
+package com.example.spring_dblab.dto;
+
+public interface AlarmWordView {
+    Long getUserId();
+    String getEmail();
+    String getWord();
+    boolean isDigest();
+}
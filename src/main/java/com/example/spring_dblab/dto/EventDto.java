@@ -11,4 +11,5 @@ public class EventDto {
     private String name;
     private String description;
     private int maxParticipation;
+    private boolean hot;
 }
@@ -0,0 +1,18 @@
+package com.example.spring_dblab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventNameDto {
+    private long id;
+    private String name;
+    private long currentParticipation;
+}
@@ -0,0 +1,7 @@
+package com.example.spring_dblab.dto;
+
+public interface EventNameView {
+    Long getId();
+    String getName();
+    long getCurrentParticipation();
+}
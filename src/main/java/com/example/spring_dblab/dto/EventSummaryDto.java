@@ -0,0 +1,37 @@
+package com.example.spring_dblab.dto;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+public class EventSummaryDto {
+    private long id;
+    private String name;
+    private String shortDescription;
+    private long maxParticipation;
+    private long currentParticipation;
+    private String organizerNickName;
+    private LocalDateTime createdAt;
+    private long reviewCount;
+    private double averageScore;
+
+    public EventSummaryDto(long id, String name, String shortDescription, long maxParticipation, long currentParticipation,
+                           String organizerNickName, LocalDateTime createdAt, long reviewCount, long scoreSum) {
+        this.id = id;
+        this.name = name;
+        this.shortDescription = shortDescription;
+        this.maxParticipation = maxParticipation;
+        this.currentParticipation = currentParticipation;
+        this.organizerNickName = organizerNickName;
+        this.createdAt = createdAt;
+        this.reviewCount = reviewCount;
+        this.averageScore = reviewCount == 0 ? 0 : (double) scoreSum / reviewCount;
+    }
+}
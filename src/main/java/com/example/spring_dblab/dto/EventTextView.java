@@ -0,0 +1,7 @@
+package com.example.spring_dblab.dto;
+
+public interface EventTextView {
+    Long getId();
+    String getName();
+    String getDescription();
+}
@@ -0,0 +1,7 @@
+package com.example.spring_dblab.dto;
+
+public interface HotEventView {
+    Long getId();
+    long getMaxParticipation();
+    long getCurrentParticipation();
+}
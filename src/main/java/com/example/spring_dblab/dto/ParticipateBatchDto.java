@@ -0,0 +1,16 @@
+package com.example.spring_dblab.dto;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Data
+@Getter
+@Setter
+public class ParticipateBatchDto {
+    private Long eventId;
+    private List<String> emails;
+    private boolean partial;
+}
@@ -0,0 +1,20 @@
+package com.example.spring_dblab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipateBatchResultDto {
+    private long eventId;
+    private int participated;
+    private Map<String, String> results;
+}
@@ -0,0 +1,22 @@
+package com.example.spring_dblab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewItemDto {
+    private long id;
+    private String nickName;
+    private String review;
+    private int score;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.example.spring_dblab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSummaryDto {
+    private long eventId;
+    private long reviewCount;
+    private double averageScore;
+    private List<Long> scoreCounts;
+}
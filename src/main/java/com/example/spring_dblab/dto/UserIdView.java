@@ -0,0 +1,6 @@
+package com.example.spring_dblab.dto;
+
+public interface UserIdView {
+    Long getId();
+    String getEmail();
+}
@@ -0,0 +1,45 @@
+package com.example.spring_dblab.entitiy;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "idx_archived_event_user", columnList = "user_id"))
+public class ArchivedEvent {
+    @Id
+    private long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, length = 6000)
+    private String description;
+
+    @Column(length = Event.SUMMARY_LENGTH)
+    private String summary;
+
+    @Column(nullable = false)
+    private long maxParticipation;
+
+    @Column(nullable = false)
+    private long currentParticipation;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -3,6 +3,7 @@ package com.example.spring_dblab.entitiy;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,6 +14,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@DynamicUpdate
+@Table(indexes = @Index(name = "idx_event_created", columnList = "created_at, id"))
 public class Event {
     @Id
     @GeneratedValue(strategy= GenerationType.IDENTITY)
@@ -21,15 +24,26 @@ public class Event {
     @Column(nullable = false)
     private String name;
 
+    public static final int SUMMARY_LENGTH = 100;
+
     @Column(nullable = false, length = 6000)
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String description;
 
+    @Column(length = SUMMARY_LENGTH)
+    private String summary;
+
     @Column(nullable = false)
     private long maxParticipation;
 
     @Column(nullable = false)
     private long currentParticipation = 0;
 
+    @Column(nullable = false)
+    private boolean hot = false;
+
     @ManyToOne
     @JoinColumn(name="user_id")
     private User user;
@@ -45,8 +59,18 @@ public class Event {
     @Builder
     public Event(String name, String description, User user, int maxParticipation) {
         this.name = name;
-        this.description = description;
         this.user = user;
         this.maxParticipation = maxParticipation;
+        setDescription(description);
+    }
+
+    /**
+     * 설명을 바꾸고 목록에 표시할 요약도 함께 갱신합니다.
+     *
+     * @param description 이벤트 설명
+     */
+    public void setDescription(String description) {
+        this.description = description;
+        this.summary = description == null ? null : description.substring(0, Math.min(description.length(), SUMMARY_LENGTH));
     }
 }
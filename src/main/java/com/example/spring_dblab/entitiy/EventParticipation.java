@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_event_participation_event_user", columnNames = {"event_id", "user_id"}))
 public class EventParticipation {
     @Id
     @GeneratedValue(strategy= GenerationType.IDENTITY)
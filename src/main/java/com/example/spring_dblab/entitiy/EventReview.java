@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_event_review_event_created", columnList = "event_id, created_at, id"))
 public class EventReview {
     @Id
     @GeneratedValue(strategy= GenerationType.IDENTITY)
@@ -0,0 +1,37 @@
+package com.example.spring_dblab.entitiy;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Data
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+public class EventReviewStat {
+    @Id
+    @Column(name = "event_id")
+    private long eventId;
+
+    @Column(nullable = false)
+    private long reviewCount = 0;
+
+    @Column(nullable = false)
+    private long scoreSum = 0;
+
+    @Column(nullable = false)
+    private long score1 = 0;
+
+    @Column(nullable = false)
+    private long score2 = 0;
+
+    @Column(nullable = false)
+    private long score3 = 0;
+
+    @Column(nullable = false)
+    private long score4 = 0;
+
+    @Column(nullable = false)
+    private long score5 = 0;
+}
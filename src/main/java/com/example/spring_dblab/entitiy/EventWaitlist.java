@@ -0,0 +1,37 @@
+package com.example.spring_dblab.entitiy;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Data
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_event_waitlist_event_user", columnNames = {"event_id", "user_id"}),
+        indexes = @Index(name = "idx_event_waitlist_event", columnList = "event_id, id"))
+public class EventWaitlist {
+    @Id
+    @GeneratedValue(strategy= GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public EventWaitlist(Long eventId, Long userId) {
+        this.eventId = eventId;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.spring_dblab.entitiy;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Data
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "idx_notification_digest_user", columnList = "user_id"))
+public class NotificationDigest {
+    @Id
+    @GeneratedValue(strategy= GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String eventName;
+
+    @Column(nullable = false, length = 1000)
+    private String words;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public NotificationDigest(Long userId, String recipient, Long eventId, String eventName, String words) {
+        this.userId = userId;
+        this.recipient = recipient;
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.words = words;
+    }
+}
@@ -21,9 +21,13 @@ public class UserAlarm {
     @Column(nullable = false)
     private String word;
 
+    @Column(nullable = false)
+    private boolean digest = false;
+
     @Builder
-    public UserAlarm(User user, String word) {
+    public UserAlarm(User user, String word, boolean digest) {
         this.user = user;
         this.word = word;
+        this.digest = digest;
     }
 }
@@ -0,0 +1,8 @@
+package com.example.spring_dblab.enums;
+
+public enum OutboxStatusEnum {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
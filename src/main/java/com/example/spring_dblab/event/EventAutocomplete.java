@@ -0,0 +1,231 @@
+package com.example.spring_dblab.event;
+
+import com.example.spring_dblab.dto.EventNameDto;
+import com.example.spring_dblab.dto.EventNameView;
+import com.example.spring_dblab.repository.EventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 이름 자동 완성을 제공하는 색인.
+ * 접두어별 상위 K개를 미리 계산한 트라이를 잠금 없이 조회하고, 트라이를 만든 뒤 등록/이름 변경/삭제된 이벤트는
+ * 다음 재구성 전까지 보조 목록으로 함께 검사한다.
+ * 참여 인원은 주기적으로 event 테이블에서 다시 읽어 순위에 반영한다.
+ * 메모리 사용량은 트라이와 이름을 보관하는 항목 맵을 합쳐 재구성할 때마다 다시 계산한다.
+ */
+@Component
+@Slf4j
+public class EventAutocomplete {
+    private final EventRepository eventRepository;
+    private final int topK;
+    private final int reloadBatchSize;
+
+    private final Object writeLock = new Object();
+    private final Object rebuildLock = new Object();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private Set<Long> changedDuringReload = null;
+    private long writeSequence = 0;
+
+    private volatile EventNameTrie trie = new EventNameTrie(new long[0], new String[0], new long[0], 1);
+    private volatile long entriesBytes = 0;
+
+    public EventAutocomplete(EventRepository eventRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${event.autocomplete.top-k}") int topK,
+                             @Value("${event.autocomplete.reload-batch-size}") int reloadBatchSize) {
+        this.eventRepository = eventRepository;
+        this.topK = topK;
+        this.reloadBatchSize = reloadBatchSize;
+        Gauge.builder("event.autocomplete.trie.bytes", this, EventAutocomplete::memoryBytes).register(meterRegistry);
+        Gauge.builder("event.autocomplete.entries", entries, Map::size).register(meterRegistry);
+        Gauge.builder("event.autocomplete.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 접두어로 시작하는 이름을 가진 이벤트를 참여 인원이 많은 순으로 반환합니다.
+     *
+     * @param prefix 이름 접두어
+     * @param size 반환할 최대 개수, 상위 K개를 넘을 수 없음
+     * @return 이벤트 ID, 이름, 참여 인원 목록
+     */
+    public List<EventNameDto> complete(String prefix, int size) {
+        String normalized = EventNameTrie.normalize(prefix);
+        if (normalized.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        Set<Long> candidates = new LinkedHashSet<>(trie.top(normalized));
+        for (Long eventId : pending.keySet()) {
+            Entry entry = entries.get(eventId);
+            if (entry != null && entry.normalized.startsWith(normalized)) {
+                candidates.add(eventId);
+            }
+        }
+
+        List<EventNameDto> result = new ArrayList<>();
+        for (Long eventId : candidates) {
+            Entry entry = entries.get(eventId);
+            if (entry != null && entry.normalized.startsWith(normalized)) {
+                result.add(new EventNameDto(eventId, entry.name, entry.participation));
+            }
+        }
+        result.sort(Comparator.comparingLong(EventNameDto::getCurrentParticipation).reversed()
+                .thenComparing(Comparator.comparingLong(EventNameDto::getId).reversed()));
+        return result.size() > size ? result.subList(0, size) : result;
+    }
+
+    /**
+     * 이벤트를 추가하거나 이름을 바꿉니다. 이미 있는 이벤트라면 참여 인원은 유지합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param name 이벤트 이름
+     */
+    public void put(long eventId, String name) {
+        synchronized (writeLock) {
+            markChanged(eventId);
+            Entry previous = entries.get(eventId);
+            entries.put(eventId, new Entry(name, previous == null ? 0 : previous.participation));
+            pending.put(eventId, ++writeSequence);
+        }
+    }
+
+    /**
+     * 이벤트를 자동 완성 대상에서 제거합니다.
+     *
+     * @param eventId 이벤트 ID
+     */
+    public void remove(long eventId) {
+        synchronized (writeLock) {
+            markChanged(eventId);
+            entries.remove(eventId);
+            pending.put(eventId, ++writeSequence);
+        }
+    }
+
+    /**
+     * 보조 목록에 쌓인 변경을 포함해 트라이를 다시 구성합니다.
+     * 트라이를 만드는 동안에도 변경과 조회는 막히지 않으며, 그 사이의 변경은 보조 목록에 남습니다.
+     */
+    @Scheduled(fixedDelayString = "${event.autocomplete.compact-delay-ms}")
+    public void compact() {
+        if (!pending.isEmpty()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * event 테이블의 이름과 참여 인원을 ID 순으로 나누어 읽어 색인을 다시 구성합니다.
+     * 읽는 동안 변경된 이벤트는 메모리의 값을 유지합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${event.autocomplete.reload-interval-ms}", fixedDelayString = "${event.autocomplete.reload-interval-ms}")
+    public void reload() {
+        synchronized (writeLock) {
+            changedDuringReload = new HashSet<>();
+        }
+
+        Map<Long, Entry> loaded = new HashMap<>();
+        long after = 0;
+        List<EventNameView> batch;
+        do {
+            batch = eventRepository.findNameAfter(after, PageRequest.of(0, reloadBatchSize));
+            for (EventNameView event : batch) {
+                loaded.put(event.getId(), new Entry(event.getName(), event.getCurrentParticipation()));
+                after = event.getId();
+            }
+        } while (batch.size() == reloadBatchSize);
+
+        synchronized (writeLock) {
+            Set<Long> changed = changedDuringReload;
+            changedDuringReload = null;
+            entries.keySet().removeIf(eventId -> !loaded.containsKey(eventId) && !changed.contains(eventId));
+            loaded.forEach((eventId, entry) -> {
+                if (!changed.contains(eventId)) {
+                    entries.put(eventId, entry);
+                }
+            });
+        }
+        rebuild();
+    }
+
+    /**
+     * 트라이와 항목 맵이 차지하는 대략적인 메모리 크기를 반환합니다.
+     *
+     * @return 바이트 단위 크기
+     */
+    public long memoryBytes() {
+        return trie.memoryBytes() + entriesBytes;
+    }
+
+    private void rebuild() {
+        synchronized (rebuildLock) {
+            Map<Long, Long> captured;
+            long[] eventIds;
+            String[] names;
+            long[] participations;
+            long bytes = 0;
+            synchronized (writeLock) {
+                captured = new HashMap<>(pending);
+                eventIds = new long[entries.size()];
+                names = new String[entries.size()];
+                participations = new long[entries.size()];
+                int i = 0;
+                for (Map.Entry<Long, Entry> entry : entries.entrySet()) {
+                    eventIds[i] = entry.getKey();
+                    names[i] = entry.getValue().normalized;
+                    participations[i] = entry.getValue().participation;
+                    bytes += entry.getValue().memoryBytes();
+                    i++;
+                }
+            }
+
+            trie = new EventNameTrie(eventIds, names, participations, topK);
+            entriesBytes = bytes;
+            captured.forEach(pending::remove);
+            log.info("rebuild : " + eventIds.length + " events, " + memoryBytes() + " bytes");
+        }
+    }
+
+    private void markChanged(long eventId) {
+        if (changedDuringReload != null) {
+            changedDuringReload.add(eventId);
+        }
+    }
+
+    private static class Entry {
+        private static final long OVERHEAD_BYTES = 72;
+        private static final long STRING_OVERHEAD_BYTES = 40;
+
+        private final String name;
+        private final String normalized;
+        private final long participation;
+
+        private Entry(String name, long participation) {
+            this.name = name;
+            this.normalized = EventNameTrie.normalize(name);
+            this.participation = participation;
+        }
+
+        /**
+         * 맵 노드, Long 키, 항목 객체와 이름 문자열의 크기를 더합니다. 정규화해도 같은 이름은 한 번만 셉니다.
+         */
+        private long memoryBytes() {
+            return OVERHEAD_BYTES + stringBytes(name) + (normalized == name ? 0 : stringBytes(normalized));
+        }
+
+        private static long stringBytes(String value) {
+            return value == null ? 0 : STRING_OVERHEAD_BYTES + (long) value.length() * Character.BYTES;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.spring_dblab.event;
+
+import com.example.spring_dblab.entitiy.Event;
+import com.example.spring_dblab.repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * ID별 이벤트 조회 결과를 메모리에 보관하는 캐시.
+ * 크기와 보관 시간으로 항목을 제거하고, 같은 ID에 대한 동시 조회는 한 번의 DB 조회로 합친다.
+ * 지연 로딩되는 설명은 캐시에 넣기 전에 읽어 두므로 세션이 닫힌 뒤에도 응답에 포함된다.
+ * 이벤트를 변경하는 쪽은 커밋 후 {@link #invalidate(long)}를 호출해 다음 조회가 변경된 값을 읽게 한다.
+ * 이때 조건부 조회에 쓰는 이벤트 버전도 함께 올린다.
+ */
+@Component
+public class EventCache {
+    private final LoadingCache<Long, Event> cache;
+    private final EventVersionTracker eventVersionTracker;
+
+    public EventCache(EventRepository eventRepository,
+                      EventVersionTracker eventVersionTracker,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${event.cache.maximum-size}") long maximumSize,
+                      @Value("${event.cache.ttl-ms}") long ttlMillis) {
+        this.eventVersionTracker = eventVersionTracker;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build(id -> transactionTemplate.execute(status -> load(eventRepository, id)));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "event");
+    }
+
+    /**
+     * 캐시에서 이벤트를 조회하고, 없으면 DB에서 읽어 보관합니다.
+     *
+     * @param id 이벤트 ID
+     * @return 이벤트, 존재하지 않는 이벤트라면 null
+     */
+    public Event get(long id) {
+        return cache.get(id);
+    }
+
+    private static Event load(EventRepository eventRepository, long id) {
+        Event event = eventRepository.findById(id).orElse(null);
+        if (event != null) {
+            event.getDescription();
+        }
+        return event;
+    }
+
+    /**
+     * 캐시에 보관된 이벤트를 제거하고 이벤트 버전을 올립니다.
+     * 진행 중인 조회가 있다면 조회가 끝난 뒤 제거되므로 변경 전 값이 남지 않습니다.
+     *
+     * @param id 이벤트 ID
+     */
+    public void invalidate(long id) {
+        cache.invalidate(id);
+        eventVersionTracker.touchEvent(id);
+    }
+}
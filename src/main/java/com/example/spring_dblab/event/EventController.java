@@ -1,17 +1,27 @@
 package com.example.spring_dblab.event;
 
+import com.example.spring_dblab.dto.CursorPageDto;
+import com.example.spring_dblab.dto.EventNameDto;
+import com.example.spring_dblab.dto.EventSummaryDto;
+import com.example.spring_dblab.dto.SlicePageDto;
 import com.example.spring_dblab.entitiy.Event;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import static com.example.spring_dblab.utils.CheckDate.parseDate;
+import static com.example.spring_dblab.utils.ConditionalGetUtil.conditional;
 
 /**
  * 이벤트 관련 HTTP 요청을 처리하는 컨트롤러.
@@ -20,30 +30,95 @@ import static com.example.spring_dblab.utils.CheckDate.parseDate;
 @RequestMapping("/event")
 @RequiredArgsConstructor
 public class EventController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final EventService eventService;
+    private final EventVersionTracker eventVersionTracker;
 
     /**
      * 페이지 번호에 따라 이벤트 목록을 페이지 형식으로 반환합니다.
      *
      * @param page 페이지 번호
+     * @param request 현재 요청, 목록이 바뀌지 않았다면 304를 반환하는 데 사용
      * @return 해당 페이지에 해당하는 이벤트 목록
      * @throws Exception 페이지 로딩 중 발생할 수 있는 예외
      */
     @GetMapping("/page")
-    public Page<Event> getEventPage(@RequestParam(name="page") String page) throws Exception {
-        return eventService.getEventPage(page);
+    public ResponseEntity<Page<EventSummaryDto>> getEventPage(@RequestParam(name="page") String page, WebRequest request) throws Exception {
+        return conditional(request, eventVersionTracker.listTag(), () -> eventService.getEventPage(page));
+    }
+
+    /**
+     * 페이지 번호에 따라 이벤트 목록을 반환합니다.
+     * 전체 개수를 매번 세지 않고 별도로 유지하는 근사치를 함께 반환합니다.
+     *
+     * @param page 페이지 번호
+     * @param request 현재 요청, 목록이 바뀌지 않았다면 304를 반환하는 데 사용
+     * @return 해당 페이지의 이벤트 목록과 근사 전체 개수
+     * @throws Exception 페이지 로딩 중 발생할 수 있는 예외
+     */
+    @GetMapping("/slice")
+    public ResponseEntity<SlicePageDto<EventSummaryDto>> getEventSlice(@RequestParam(name="page") String page, WebRequest request) throws Exception {
+        return conditional(request, eventVersionTracker.listTag(), () -> eventService.getEventSlice(page));
+    }
+
+    /**
+     * 이름과 설명에 검색어를 모두 포함한 이벤트를 점수순으로 반환합니다.
+     *
+     * @param query 검색어
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 해당 페이지의 검색 결과와 전체 결과 수
+     * @throws Exception 이벤트 검색 중 발생할 수 있는 예외
+     */
+    @GetMapping("/search")
+    public SlicePageDto<EventSummaryDto> searchEvent(@RequestParam(name="query") String query,
+                                                     @RequestParam(name="page", defaultValue = "1") int page,
+                                                     @RequestParam(name="size", defaultValue = "10") int size) throws Exception {
+        return eventService.searchEvent(query, page, size);
+    }
+
+    /**
+     * 이름이 주어진 접두어로 시작하는 이벤트를 참여 인원이 많은 순으로 반환합니다.
+     *
+     * @param prefix 이름 접두어
+     * @param size 반환할 최대 개수
+     * @return 이벤트 ID, 이름, 참여 인원 목록
+     */
+    @GetMapping("/autocomplete")
+    public List<EventNameDto> autocompleteEvent(@RequestParam(name="prefix") String prefix,
+                                                @RequestParam(name="size", defaultValue = "10") int size) {
+        return eventService.autocompleteEvent(prefix, size);
+    }
+
+    /**
+     * 커서 다음 위치부터 최신순으로 이벤트 목록을 반환합니다.
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어지는 목록을 받을 수 있습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지라면 생략
+     * @param size 페이지 크기
+     * @param request 현재 요청, 목록이 바뀌지 않았다면 304를 반환하는 데 사용
+     * @return 이벤트 목록과 다음 페이지 커서
+     * @throws Exception 이벤트 조회 중 발생할 수 있는 예외
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<EventSummaryDto>> getEventCursor(@RequestParam(name="cursor", required = false) String cursor,
+                                                                         @RequestParam(name="size", defaultValue = "10") int size,
+                                                                         WebRequest request) throws Exception {
+        return conditional(request, eventVersionTracker.listTag(), () -> eventService.getEventCursor(cursor, size));
     }
 
     /**
      * 특정 ID를 가진 이벤트를 반환합니다.
      *
      * @param id 이벤트 ID
+     * @param request 현재 요청, 이벤트가 바뀌지 않았다면 304를 반환하는 데 사용
      * @return 해당 ID를 가진 이벤트
      * @throws Exception 이벤트 조회 중 발생할 수 있는 예외
      */
     @GetMapping("/id")
-    public Event getEvent(@RequestParam(name="id") String id) throws Exception {
-        return eventService.getEvent(id);
+    public ResponseEntity<Event> getEvent(@RequestParam(name="id") String id, WebRequest request) throws Exception {
+        return conditional(request, eventService.getEventTag(id), () -> eventService.getEvent(id));
     }
 
     /**
@@ -54,10 +129,39 @@ public class EventController {
      * @return 해당 기간에 해당하는 이벤트 목록
      */
     @GetMapping("/date")
-    public List<Event> getEventByDate(@RequestParam(name="startDate") String startDate, @RequestParam(name="endDate") String endDate) {
+    public List<EventSummaryDto> getEventByDate(@RequestParam(name="startDate") String startDate, @RequestParam(name="endDate") String endDate) {
         return eventService.getEventByDate(parseDate(startDate), parseDate(endDate));
     }
 
+    /**
+     * 시작 날짜와 종료 날짜 사이의 이벤트를 NDJSON 형식으로 스트리밍합니다.
+     *
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 한 줄에 이벤트 하나씩 출력하는 응답
+     */
+    @GetMapping("/date/stream")
+    public ResponseEntity<StreamingResponseBody> streamEventByDate(@RequestParam(name="startDate") String startDate, @RequestParam(name="endDate") String endDate) {
+        LocalDate start = parseDate(startDate);
+        LocalDate end = parseDate(endDate);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(outputStream -> eventService.streamEventByDate(start, end, outputStream));
+    }
+
+    /**
+     * 이벤트 이름에 따라 이벤트 목록을 NDJSON 형식으로 스트리밍합니다.
+     *
+     * @param name 이벤트 이름
+     * @return 한 줄에 이벤트 하나씩 출력하는 응답
+     */
+    @GetMapping("/name/stream")
+    public ResponseEntity<StreamingResponseBody> streamEventByName(@RequestParam(name="eventName") String name) {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(outputStream -> eventService.streamEventByName(name, outputStream));
+    }
+
     /**
      * 이벤트 이름에 따라 이벤트 목록을 반환합니다.
      *
@@ -65,7 +169,7 @@ public class EventController {
      * @return 해당 이름을 가진 이벤트 목록
      */
     @GetMapping("/name")
-    public List<Event> getEventByName(@RequestParam(name="eventName") String name) {
+    public List<EventSummaryDto> getEventByName(@RequestParam(name="eventName") String name) {
         return eventService.getEventByName(name);
     }
 }
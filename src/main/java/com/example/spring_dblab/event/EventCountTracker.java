@@ -0,0 +1,54 @@
+package com.example.spring_dblab.event;
+
+import com.example.spring_dblab.repository.EventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 이벤트 수를 메모리에 유지하는 카운터.
+ * 이벤트 등록/삭제가 커밋될 때마다 갱신하고, 주기적으로 event 테이블의 실제 개수와 맞춘다.
+ * 목록 조회마다 count 쿼리를 실행하지 않기 위해 사용하며, 갱신 사이의 짧은 오차는 허용한다.
+ */
+@Component
+@Slf4j
+public class EventCountTracker {
+    private final EventRepository eventRepository;
+    private final AtomicLong total = new AtomicLong();
+
+    public EventCountTracker(EventRepository eventRepository, MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        Gauge.builder("event.total", total, AtomicLong::get).register(meterRegistry);
+    }
+
+    public long getTotal() {
+        return Math.max(total.get(), 0);
+    }
+
+    public void increment() {
+        total.incrementAndGet();
+    }
+
+    public void decrement() {
+        total.decrementAndGet();
+    }
+
+    /**
+     * event 테이블의 실제 개수로 카운터를 맞춥니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${event.count.reconcile-interval-ms}", fixedDelayString = "${event.count.reconcile-interval-ms}")
+    public void reconcile() {
+        long counted = eventRepository.count();
+        long previous = total.getAndSet(counted);
+        if (previous != counted) {
+            log.info("reconcile : Event count " + previous + " -> " + counted);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.spring_dblab.event;
+
+import java.util.*;
+
+/**
+ * 이벤트 이름으로 구성한 읽기 전용 radix 트라이.
+ * 자식이 하나뿐인 경로는 간선 하나로 합치고, 간선 이름은 하나의 문자 배열에 이어 붙여 위치와 길이로 가리킨다.
+ * 노드와 간선을 배열에 연속으로 저장하고, 갈라지는 지점과 이름이 끝나는 지점에만 노드를 두어
+ * 해당 접두어로 시작하는 이름 중 참여 인원이 많은 이벤트 상위 K개를 미리 계산해 둔다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 잠금 없이 공유할 수 있다.
+ */
+public class EventNameTrie {
+    private static final int ROOT = 0;
+
+    private final long[] eventIds;
+    private final int[] firstEdge;
+    private final int[] edgeCount;
+    private final int[] topStart;
+    private final int[] topCount;
+    private final char[] edgeChars;
+    private final int[] edgeLabelStart;
+    private final int[] edgeLabelLength;
+    private final char[] labels;
+    private final int[] edgeTargets;
+    private final int[] topEntries;
+
+    /**
+     * 이벤트 이름과 참여 인원으로 트라이를 생성합니다.
+     * 이름은 {@link #normalize(String)}로 정규화된 값이어야 합니다.
+     *
+     * @param eventIds 이벤트 ID 목록
+     * @param names 이벤트 ID와 같은 순서의 정규화된 이름 목록
+     * @param participations 이벤트 ID와 같은 순서의 참여 인원 목록
+     * @param topK 노드마다 보관할 상위 이벤트 수
+     */
+    public EventNameTrie(long[] eventIds, String[] names, long[] participations, int topK) {
+        Integer[] order = new Integer[eventIds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer i) -> names[i]));
+
+        Builder builder = new Builder(names, order, eventIds, participations, Math.max(topK, 1));
+        builder.build(0, order.length, 0);
+
+        this.eventIds = eventIds.clone();
+        this.firstEdge = builder.firstEdge.toArray();
+        this.edgeCount = builder.edgeCount.toArray();
+        this.topStart = builder.topStart.toArray();
+        this.topCount = builder.topCount.toArray();
+        this.edgeChars = builder.edgeChars.toString().toCharArray();
+        this.edgeLabelStart = builder.edgeLabelStart.toArray();
+        this.edgeLabelLength = builder.edgeLabelLength.toArray();
+        this.labels = builder.labels.toString().toCharArray();
+        this.edgeTargets = builder.edgeTargets.toArray();
+        this.topEntries = builder.topEntries.toArray();
+    }
+
+    /**
+     * 이름을 트라이의 키로 쓰기 위해 앞뒤 공백을 없애고 소문자로 바꿉니다.
+     *
+     * @param name 이벤트 이름
+     * @return 정규화된 이름
+     */
+    public static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 주어진 접두어로 시작하는 이름 중 참여 인원이 많은 이벤트를 순서대로 반환합니다.
+     *
+     * @param prefix 정규화된 접두어
+     * @return 이벤트 ID 목록, 생성 시 지정한 상위 K개까지
+     */
+    public List<Long> top(String prefix) {
+        if (eventIds.length == 0) {
+            return List.of();
+        }
+
+        int node = ROOT;
+        int matched = 0;
+        while (matched < prefix.length()) {
+            int edge = edge(node, prefix.charAt(matched));
+            if (edge < 0) {
+                return List.of();
+            }
+
+            int length = Math.min(edgeLabelLength[edge], prefix.length() - matched);
+            for (int i = 1; i < length; i++) {
+                if (labels[edgeLabelStart[edge] + i] != prefix.charAt(matched + i)) {
+                    return List.of();
+                }
+            }
+            matched += length;
+            node = edgeTargets[edge];
+        }
+
+        List<Long> result = new ArrayList<>(topCount[node]);
+        for (int i = topStart[node]; i < topStart[node] + topCount[node]; i++) {
+            result.add(eventIds[topEntries[i]]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return eventIds.length;
+    }
+
+    /**
+     * 트라이를 이루는 배열이 차지하는 대략적인 메모리 크기를 반환합니다.
+     *
+     * @return 바이트 단위 크기
+     */
+    public long memoryBytes() {
+        return (long) eventIds.length * Long.BYTES
+                + (long) (firstEdge.length + edgeCount.length + topStart.length + topCount.length) * Integer.BYTES
+                + (long) (edgeChars.length + labels.length) * Character.BYTES
+                + (long) (edgeLabelStart.length + edgeLabelLength.length + edgeTargets.length + topEntries.length) * Integer.BYTES;
+    }
+
+    private int edge(int node, char c) {
+        int from = firstEdge[node];
+        int index = Arrays.binarySearch(edgeChars, from, from + edgeCount[node], c);
+        return index < 0 ? -1 : index;
+    }
+
+    private static class Builder {
+        private final String[] names;
+        private final Integer[] order;
+        private final long[] eventIds;
+        private final long[] participations;
+        private final int topK;
+
+        private final IntList firstEdge = new IntList();
+        private final IntList edgeCount = new IntList();
+        private final IntList topStart = new IntList();
+        private final IntList topCount = new IntList();
+        private final StringBuilder edgeChars = new StringBuilder();
+        private final IntList edgeLabelStart = new IntList();
+        private final IntList edgeLabelLength = new IntList();
+        private final StringBuilder labels = new StringBuilder();
+        private final IntList edgeTargets = new IntList();
+        private final IntList topEntries = new IntList();
+
+        private Builder(String[] names, Integer[] order, long[] eventIds, long[] participations, int topK) {
+            this.names = names;
+            this.order = order;
+            this.eventIds = eventIds;
+            this.participations = participations;
+            this.topK = topK;
+        }
+
+        private int build(int lo, int hi, int depth) {
+            int node = firstEdge.size();
+            firstEdge.add(0);
+            edgeCount.add(0);
+            topStart.add(0);
+            topCount.add(0);
+
+            int[] top = new int[topK];
+            int count = 0;
+            int i = lo;
+            while (i < hi && names[order[i]].length() == depth) {
+                count = offer(top, count, order[i]);
+                i++;
+            }
+
+            IntList children = new IntList();
+            IntList childStart = new IntList();
+            IntList childLength = new IntList();
+            StringBuilder firstChars = new StringBuilder();
+            while (i < hi) {
+                String first = names[order[i]];
+                char c = first.charAt(depth);
+                int end = i;
+                while (end < hi && names[order[end]].charAt(depth) == c) {
+                    end++;
+                }
+
+                int split = commonPrefixLength(first, names[order[end - 1]], depth + 1);
+                int child = build(i, end, split);
+                firstChars.append(c);
+                children.add(child);
+                childStart.add(labels.length());
+                childLength.add(split - depth);
+                labels.append(first, depth, split);
+                for (int t = topStart.get(child); t < topStart.get(child) + topCount.get(child); t++) {
+                    count = offer(top, count, topEntries.get(t));
+                }
+                i = end;
+            }
+
+            firstEdge.set(node, edgeChars.length());
+            edgeCount.set(node, firstChars.length());
+            edgeChars.append(firstChars);
+            for (int c = 0; c < children.size(); c++) {
+                edgeTargets.add(children.get(c));
+                edgeLabelStart.add(childStart.get(c));
+                edgeLabelLength.add(childLength.get(c));
+            }
+
+            topStart.set(node, topEntries.size());
+            topCount.set(node, count);
+            for (int c = 0; c < count; c++) {
+                topEntries.add(top[c]);
+            }
+            return node;
+        }
+
+        /**
+         * 정렬된 구간의 첫 이름과 마지막 이름이 from 위치부터 얼마나 더 같은지 구해, 구간 전체의 공통 접두어 길이를 반환합니다.
+         */
+        private static int commonPrefixLength(String first, String last, int from) {
+            int end = Math.min(first.length(), last.length());
+            int i = from;
+            while (i < end && first.charAt(i) == last.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+
+        private int offer(int[] top, int count, int entry) {
+            if (count == top.length && !ranksBefore(entry, top[count - 1])) {
+                return count;
+            }
+
+            int position = Math.min(count, top.length - 1);
+            while (position > 0 && ranksBefore(entry, top[position - 1])) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = entry;
+            return Math.min(count + 1, top.length);
+        }
+
+        private boolean ranksBefore(int entry, int other) {
+            if (participations[entry] != participations[other]) {
+                return participations[entry] > participations[other];
+            }
+            return eventIds[entry] > eventIds[other];
+        }
+    }
+
+    private static class IntList {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int get(int index) {
+            return values[index];
+        }
+
+        private void set(int index, int value) {
+            values[index] = value;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.spring_dblab.event;
+
+import com.example.spring_dblab.enums.OutboxStatusEnum;
+import com.example.spring_dblab.participate.HotSeatCounter;
+import com.example.spring_dblab.repository.EventParticipationRepository;
+import com.example.spring_dblab.repository.EventReviewRepository;
+import com.example.spring_dblab.repository.EventReviewStatRepository;
+import com.example.spring_dblab.repository.EventWaitlistRepository;
+import com.example.spring_dblab.repository.NotificationDigestRepository;
+import com.example.spring_dblab.repository.NotificationOutboxRepository;
+import com.example.spring_dblab.review.ReviewCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.example.spring_dblab.utils.TransactionUtil.afterCommit;
+
+/**
+ * 이벤트가 event 테이블에서 빠질 때(삭제 또는 보관) 함께 정리해야 하는 데이터를 처리하는 클래스.
+ * 딸린 행은 행을 읽지 않고 이벤트 ID 조건의 DELETE 한 번씩으로 지우고,
+ * 메모리에 유지하는 카운터, 색인, 캐시는 커밋 후에 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventRemover {
+    private final EventParticipationRepository eventParticipationRepository;
+    private final EventWaitlistRepository eventWaitlistRepository;
+    private final EventReviewRepository eventReviewRepository;
+    private final EventReviewStatRepository eventReviewStatRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationDigestRepository notificationDigestRepository;
+    private final HotSeatCounter hotSeatCounter;
+    private final EventCountTracker eventCountTracker;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventAutocomplete eventAutocomplete;
+    private final EventCache eventCache;
+    private final ReviewCache reviewCache;
+
+    /**
+     * 이벤트의 참여 기록, 대기열, 리뷰와 리뷰 집계, 아직 보내지 않은 알림을 삭제합니다.
+     * 호출한 쪽의 트랜잭션 안에서 실행되며, 이벤트 행은 호출한 쪽에서 삭제합니다.
+     *
+     * @param eventIds 이벤트 ID 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteDependents(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        eventParticipationRepository.deleteAllByEventIdIn(eventIds);
+        eventWaitlistRepository.deleteAllByEventIdIn(eventIds);
+        eventReviewRepository.deleteAllByEventIdIn(eventIds);
+        eventReviewStatRepository.deleteAllByEventIdIn(eventIds);
+        notificationOutboxRepository.deleteAllByEventIdInAndStatus(eventIds, OutboxStatusEnum.PENDING);
+        notificationDigestRepository.deleteAllByEventIdIn(eventIds);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 이벤트를 메모리의 카운터, 색인, 캐시에서 제거합니다.
+     *
+     * @param eventIds 이벤트 ID 목록
+     */
+    public void afterCommitRemoved(Collection<Long> eventIds) {
+        List<Long> removed = List.copyOf(eventIds);
+        afterCommit(() -> {
+            for (Long eventId : removed) {
+                hotSeatCounter.remove(eventId);
+                eventCountTracker.decrement();
+                eventSearchIndex.remove(eventId);
+                eventAutocomplete.remove(eventId);
+                eventCache.invalidate(eventId);
+                reviewCache.invalidate(eventId);
+            }
+        });
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.spring_dblab.event;
+
+import com.example.spring_dblab.dto.EventTextView;
+import com.example.spring_dblab.repository.EventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이벤트 이름과 설명을 대상으로 하는 메모리 역색인.
+ * 한글은 음절 단위 1-gram/2-gram으로, 그 외 문자는 공백과 기호로 나눈 단어 단위로 색인한다.
+ * 단어별 포스팅은 이벤트 ID 순으로 정렬된 배열로 보관하고, 이벤트별로는 단어 문자열 대신 포스팅 참조만 기록한다. 검색은 모든 검색어를 포함한 이벤트를
+ * 가장 짧은 포스팅부터 교집합해 찾고 이름 가중치를 둔 tf-idf 점수로 정렬한다.
+ * 이벤트 등록/수정/삭제가 커밋될 때마다 갱신하고, 애플리케이션 시작 시 DB에서 다시 만든다.
+ */
+@Component
+@Slf4j
+public class EventSearchIndex {
+    private static final int NAME_WEIGHT = 3;
+    private static final int MAX_QUERY_TERMS = 16;
+
+    private final EventRepository eventRepository;
+    private final int rebuildBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Postings> postingsByTerm = new HashMap<>();
+    private Map<Long, Postings[]> termsByEvent = new HashMap<>();
+
+    private final Object rebuildLock = new Object();
+    private Set<Long> changedDuringRebuild = null;
+
+    public EventSearchIndex(EventRepository eventRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${event.search.rebuild-batch-size}") int rebuildBatchSize) {
+        this.eventRepository = eventRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+        Gauge.builder("event.search.index.events", this, EventSearchIndex::getEventCount).register(meterRegistry);
+        Gauge.builder("event.search.index.terms", this, EventSearchIndex::getTermCount).register(meterRegistry);
+    }
+
+    /**
+     * 검색어를 모두 포함한 이벤트를 점수순으로 찾습니다.
+     *
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 이벤트 ID 목록과 전체 결과 수
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query, false)));
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postingsByTerm.get(terms.get(i));
+                if (lists[i] == null) {
+                    return new SearchResult(List.of(), 0);
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(postings -> postings.size));
+
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = Math.log(1 + (double) termsByEvent.size() / lists[i].size);
+            }
+
+            int keep = offset + limit;
+            PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(keep, 1), Hit.ORDER);
+            int[] cursors = new int[lists.length];
+            int total = 0;
+            Postings smallest = lists[0];
+            candidates:
+            for (int c = 0; c < smallest.size; c++) {
+                long eventId = smallest.ids[c];
+                double score = smallest.weights[c] * idf[0];
+                for (int i = 1; i < lists.length; i++) {
+                    int found = Arrays.binarySearch(lists[i].ids, cursors[i], lists[i].size, eventId);
+                    if (found < 0) {
+                        cursors[i] = -found - 1;
+                        if (cursors[i] >= lists[i].size) {
+                            break candidates;
+                        }
+                        continue candidates;
+                    }
+                    cursors[i] = found + 1;
+                    score += lists[i].weights[found] * idf[i];
+                }
+
+                total++;
+                if (keep > 0) {
+                    Hit hit = new Hit(eventId, score);
+                    if (top.size() < keep) {
+                        top.add(hit);
+                    } else if (Hit.ORDER.compare(hit, top.peek()) > 0) {
+                        top.poll();
+                        top.add(hit);
+                    }
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(Hit.ORDER.reversed());
+            List<Long> eventIds = new ArrayList<>();
+            for (int i = offset; i < ranked.size(); i++) {
+                eventIds.add(ranked.get(i).eventId);
+            }
+            return new SearchResult(eventIds, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이벤트를 색인에 추가하거나, 이미 있다면 새 내용으로 다시 색인합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param name 이벤트 이름
+     * @param description 이벤트 설명
+     */
+    public void index(long eventId, String name, String description) {
+        Map<String, Integer> weights = weigh(name, description);
+        lock.writeLock().lock();
+        try {
+            markChanged(eventId);
+            removeInternal(eventId);
+            addInternal(postingsByTerm, termsByEvent, eventId, weights);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이벤트를 색인에서 제거합니다.
+     *
+     * @param eventId 이벤트 ID
+     */
+    public void remove(long eventId) {
+        lock.writeLock().lock();
+        try {
+            markChanged(eventId);
+            removeInternal(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * event 테이블 전체를 ID 순으로 나누어 읽어 색인을 새로 만든 뒤 교체합니다.
+     * 읽는 동안 변경된 이벤트는 교체 후 DB에서 다시 읽어 반영합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = new HashSet<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Map<String, Postings> rebuiltPostings = new HashMap<>();
+            Map<Long, Postings[]> rebuiltTerms = new HashMap<>();
+            long after = 0;
+            List<EventTextView> batch;
+            do {
+                batch = eventRepository.findTextAfter(after, PageRequest.of(0, rebuildBatchSize));
+                for (EventTextView event : batch) {
+                    addInternal(rebuiltPostings, rebuiltTerms, event.getId(), weigh(event.getName(), event.getDescription()));
+                    after = event.getId();
+                }
+            } while (batch.size() == rebuildBatchSize);
+
+            Set<Long> changed;
+            lock.writeLock().lock();
+            try {
+                postingsByTerm = rebuiltPostings;
+                termsByEvent = rebuiltTerms;
+                changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            if (!changed.isEmpty()) {
+                Set<Long> found = new HashSet<>();
+                for (EventTextView event : eventRepository.findTextByIdIn(changed)) {
+                    index(event.getId(), event.getName(), event.getDescription());
+                    found.add(event.getId());
+                }
+                changed.removeAll(found);
+                changed.forEach(this::remove);
+            }
+            log.info("rebuild : " + getEventCount() + " events, " + getTermCount() + " terms");
+        }
+    }
+
+    public int getEventCount() {
+        lock.readLock().lock();
+        try {
+            return termsByEvent.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByTerm.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문자열을 색인 단어로 나눕니다.
+     * 한글은 연속된 음절을 2-gram으로 나누며, unigrams가 true이거나 한 음절뿐이라면 1-gram도 포함합니다.
+     * 그 외 문자와 숫자는 소문자로 바꾼 단어 단위로 나눕니다.
+     *
+     * @param text 나눌 문자열
+     * @param unigrams 한글 1-gram 포함 여부
+     * @return 색인 단어 목록
+     */
+    static List<String> tokenize(String text, boolean unigrams) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (!Character.isLetterOrDigit(c)) {
+                flush(run, hangulRun, unigrams, terms);
+                continue;
+            }
+
+            boolean hangul = Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+            if (run.length() > 0 && hangul != hangulRun) {
+                flush(run, hangulRun, unigrams, terms);
+            }
+            hangulRun = hangul;
+            run.append(c);
+        }
+        flush(run, hangulRun, unigrams, terms);
+        return terms;
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, boolean unigrams, List<String> terms) {
+        if (run.length() == 0) {
+            return;
+        }
+
+        if (!hangul) {
+            terms.add(run.toString());
+        } else {
+            for (int i = 0; i < run.length(); i++) {
+                if (unigrams || run.length() == 1) {
+                    terms.add(String.valueOf(run.charAt(i)));
+                }
+                if (i + 1 < run.length()) {
+                    terms.add(run.substring(i, i + 2));
+                }
+            }
+        }
+        run.setLength(0);
+    }
+
+    private static Map<String, Integer> weigh(String name, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : tokenize(name, true)) {
+            weights.merge(term, NAME_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(description, true)) {
+            weights.merge(term, 1, Integer::sum);
+        }
+        return weights;
+    }
+
+    private static void addInternal(Map<String, Postings> postingsByTerm, Map<Long, Postings[]> termsByEvent,
+                                    long eventId, Map<String, Integer> weights) {
+        Postings[] terms = new Postings[weights.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+            Postings postings = postingsByTerm.computeIfAbsent(weight.getKey(), Postings::new);
+            postings.put(eventId, (short) Math.min(weight.getValue(), Short.MAX_VALUE));
+            terms[i++] = postings;
+        }
+        termsByEvent.put(eventId, terms);
+    }
+
+    private void removeInternal(long eventId) {
+        Postings[] terms = termsByEvent.remove(eventId);
+        if (terms == null) {
+            return;
+        }
+
+        for (Postings postings : terms) {
+            if (postings.remove(eventId) && postings.size == 0) {
+                postingsByTerm.remove(postings.term, postings);
+            }
+        }
+    }
+
+    private void markChanged(long eventId) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(eventId);
+        }
+    }
+
+    public static class SearchResult {
+        private final List<Long> eventIds;
+        private final long total;
+
+        private SearchResult(List<Long> eventIds, long total) {
+            this.eventIds = eventIds;
+            this.total = total;
+        }
+
+        public List<Long> getEventIds() {
+            return eventIds;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+
+    private static class Hit {
+        private static final Comparator<Hit> ORDER = Comparator.<Hit>comparingDouble(hit -> hit.score)
+                .thenComparingLong(hit -> hit.eventId);
+
+        private final long eventId;
+        private final double score;
+
+        private Hit(long eventId, double score) {
+            this.eventId = eventId;
+            this.score = score;
+        }
+    }
+
+    private static class Postings {
+        private final String term;
+        private long[] ids = new long[2];
+        private short[] weights = new short[2];
+        private int size = 0;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private void put(long eventId, short weight) {
+            int index = Arrays.binarySearch(ids, 0, size, eventId);
+            if (index >= 0) {
+                weights[index] = weight;
+                return;
+            }
+
+            index = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            System.arraycopy(weights, index, weights, index + 1, size - index);
+            ids[index] = eventId;
+            weights[index] = weight;
+            size++;
+        }
+
+        private boolean remove(long eventId) {
+            int index = Arrays.binarySearch(ids, 0, size, eventId);
+            if (index < 0) {
+                return false;
+            }
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -1,29 +1,55 @@
 package com.example.spring_dblab.event;
 
+import com.example.spring_dblab.dto.CursorPageDto;
+import com.example.spring_dblab.dto.EventNameDto;
+import com.example.spring_dblab.dto.EventSummaryDto;
+import com.example.spring_dblab.dto.SlicePageDto;
 import com.example.spring_dblab.entitiy.Event;
 import com.example.spring_dblab.repository.EventRepository;
+import com.example.spring_dblab.utils.CursorUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 이벤트 관련 서비스를 제공하는 클래스.
- * 특정 페이지의 이벤트 조회, ID 별 이벤트 조회, 날짜 범위에 따른 이벤트 조회, 이름 별 이벤트 조회 등의 기능을 포함한다.
+ * 목록 조회는 엔티티 대신 목록 표시에 필요한 값만 담은 요약 정보를 한 번의 쿼리로 읽어 반환한다.
+ * 특정 페이지의 이벤트 조회, 커서 기반 이벤트 조회, ID 별 이벤트 조회, 날짜 범위에 따른 이벤트 조회, 이름 별 이벤트 조회 등의 기능을 포함한다.
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class EventService {
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int STREAM_FLUSH_ROWS = 100;
+
     private final EventRepository eventRepository;
+    private final EventCountTracker eventCountTracker;
+    private final EventCache eventCache;
+    private final EventVersionTracker eventVersionTracker;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventAutocomplete eventAutocomplete;
+    private final ObjectMapper objectMapper;
 
     /**
      * 주어진 페이지 번호에 해당하는 이벤트 페이지를 반환합니다.
@@ -32,12 +58,12 @@ public class EventService {
      * @return 해당 페이지에 해당하는 이벤트 페이지
      * @throws Exception 페이지 번호가 유효하지 않거나 조회 중 오류가 발생한 경우
      */
-    public Page<Event> getEventPage(String page) throws Exception {
+    public Page<EventSummaryDto> getEventPage(String page) throws Exception {
         try {
             int pageInt = Integer.parseInt(page);
             if(pageInt > 0) {
                 log.info("getEventPage : Success");
-                return eventRepository.findAll(PageRequest.of(pageInt-1,10));
+                return eventRepository.findSummaryPage(PageRequest.of(pageInt-1,PAGE_SIZE));
             }
             log.error("getEventPage : Not Found Page");
             throw new Exception("Not Found Page");
@@ -47,8 +73,135 @@ public class EventService {
         }
     }
 
+    /**
+     * 주어진 페이지 번호에 해당하는 이벤트 목록을 count 쿼리 없이 반환합니다.
+     * 전체 개수는 별도로 유지하는 근사치를 사용합니다.
+     *
+     * @param page 페이지 번호
+     * @return 해당 페이지의 이벤트 목록과 근사 전체 개수
+     * @throws Exception 페이지 번호가 유효하지 않거나 조회 중 오류가 발생한 경우
+     */
+    public SlicePageDto<EventSummaryDto> getEventSlice(String page) throws Exception {
+        try {
+            int pageInt = Integer.parseInt(page);
+            if(pageInt > 0) {
+                Slice<EventSummaryDto> slice = eventRepository.findSummarySlice(PageRequest.of(pageInt-1, PAGE_SIZE));
+                long total = eventCountTracker.getTotal();
+                log.info("getEventSlice : Success");
+                return new SlicePageDto<>(slice.getContent(), pageInt, PAGE_SIZE, slice.hasNext(), total, (total + PAGE_SIZE - 1) / PAGE_SIZE);
+            }
+            log.error("getEventSlice : Not Found Page");
+            throw new Exception("Not Found Page");
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
+    /**
+     * 이름과 설명에 검색어를 모두 포함한 이벤트를 점수순으로 조회합니다.
+     * 메모리 색인에서 결과 ID를 찾은 뒤 해당 페이지의 요약 정보만 한 번의 쿼리로 읽습니다.
+     *
+     * @param query 검색어
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 해당 페이지의 검색 결과와 전체 결과 수
+     * @throws Exception 페이지 번호나 크기가 유효하지 않거나 조회 중 오류가 발생한 경우
+     */
+    public SlicePageDto<EventSummaryDto> searchEvent(String query, int page, int size) throws Exception {
+        try {
+            if(page <= 0 || size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+                log.error("searchEvent : Invalid Page");
+                throw new Exception("Invalid Page");
+            }
+
+            EventSearchIndex.SearchResult result = eventSearchIndex.search(query, (page - 1) * size, size);
+            Map<Long, EventSummaryDto> summaries = new HashMap<>();
+            if(!result.getEventIds().isEmpty()) {
+                for(EventSummaryDto summary : eventRepository.findSummaryByIdIn(result.getEventIds())) {
+                    summaries.put(summary.getId(), summary);
+                }
+            }
+
+            List<EventSummaryDto> content = new ArrayList<>();
+            for(Long eventId : result.getEventIds()) {
+                EventSummaryDto summary = summaries.get(eventId);
+                if(summary != null) {
+                    content.add(summary);
+                }
+            }
+
+            long total = result.getTotal();
+            log.info("searchEvent : Success");
+            return new SlicePageDto<>(content, page, size, (long) page * size < total, total, (total + size - 1) / size);
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
+    /**
+     * 이름이 주어진 접두어로 시작하는 이벤트를 참여 인원이 많은 순으로 조회합니다.
+     * DB를 조회하지 않고 메모리의 자동 완성 색인만 사용합니다.
+     *
+     * @param prefix 이름 접두어
+     * @param size 반환할 최대 개수
+     * @return 이벤트 ID, 이름, 참여 인원 목록
+     */
+    public List<EventNameDto> autocompleteEvent(String prefix, int size) {
+        try {
+            List<EventNameDto> events = eventAutocomplete.complete(prefix, size);
+            log.info("autocompleteEvent : Success");
+            return events;
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
+    /**
+     * 커서 다음 위치부터 최신순으로 이벤트를 조회합니다.
+     * (생성 시각, ID) 인덱스를 따라 읽으므로 페이지 깊이와 관계없이 조회 비용이 일정하고 전체 개수를 세지 않습니다.
+     *
+     * @param cursor 이전 페이지가 반환한 커서, 첫 페이지라면 null
+     * @param size 페이지 크기
+     * @return 이벤트 목록과 다음 페이지 커서
+     * @throws Exception 커서나 페이지 크기가 유효하지 않거나 조회 중 오류가 발생한 경우
+     */
+    public CursorPageDto<EventSummaryDto> getEventCursor(String cursor, int size) throws Exception {
+        try {
+            if(size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+                log.error("getEventCursor : Invalid Size");
+                throw new Exception("Invalid Size");
+            }
+
+            PageRequest limit = PageRequest.of(0, size + 1);
+            List<EventSummaryDto> events;
+            if(cursor == null || cursor.isEmpty()) {
+                events = eventRepository.findLatestSummary(limit);
+            } else {
+                CursorUtil.Cursor position = CursorUtil.decode(cursor);
+                events = eventRepository.findLatestSummaryBefore(position.getCreatedAt(), position.getId(), limit);
+            }
+
+            boolean hasNext = events.size() > size;
+            if(hasNext) {
+                events = events.subList(0, size);
+            }
+            EventSummaryDto last = events.isEmpty() ? null : events.get(events.size() - 1);
+            String nextCursor = hasNext ? CursorUtil.encode(last.getCreatedAt(), last.getId()) : null;
+
+            log.info("getEventCursor : Success");
+            return new CursorPageDto<>(events, nextCursor, hasNext);
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
     /**
      * 주어진 ID를 가진 이벤트를 조회합니다.
+     * 조회 결과는 캐시에 보관하며, 이벤트가 변경되면 캐시에서 제거됩니다.
      *
      * @param id 이벤트 ID
      * @return 해당 ID를 가진 이벤트
@@ -57,10 +210,10 @@ public class EventService {
     public Event getEvent(String id) throws Exception {
         try {
             Long eventId = Long.parseLong(id);
-            Optional<Event> event = eventRepository.findById(eventId);
-            if(event.isPresent()) {
+            Event event = eventCache.get(eventId);
+            if(event != null) {
                 log.info("getEvent : Success");
-                return event.get();
+                return event;
             }
             log.error("getEvent : Event Not Found");
             throw new Exception("Event Not Found");
@@ -70,6 +223,22 @@ public class EventService {
         }
     }
 
+    /**
+     * 주어진 ID를 가진 이벤트의 ETag를 반환합니다.
+     *
+     * @param id 이벤트 ID
+     * @return 이벤트가 바뀔 때마다 달라지는 ETag
+     * @throws Exception ID가 숫자가 아닌 경우
+     */
+    public String getEventTag(String id) throws Exception {
+        try {
+            return eventVersionTracker.eventTag(Long.parseLong(id));
+        } catch (Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
     /**
      * 주어진 날짜 범위에 해당하는 이벤트 목록을 조회합니다.
      *
@@ -77,9 +246,9 @@ public class EventService {
      * @param endDate 종료 날짜
      * @return 해당 날짜 범위에 해당하는 이벤트 목록
      */
-    public List<Event> getEventByDate(LocalDate startDate, LocalDate endDate) {
+    public List<EventSummaryDto> getEventByDate(LocalDate startDate, LocalDate endDate) {
         try {
-            List<Event> event = eventRepository.findEventsByCreatedAtBetween(startDate.atStartOfDay(),endDate.atStartOfDay());
+            List<EventSummaryDto> event = eventRepository.findSummaryByCreatedAtBetween(startDate.atStartOfDay(),endDate.atStartOfDay());
             log.info("getEventByDate : Success");
             return event;
         } catch(Exception err){
@@ -88,15 +257,53 @@ public class EventService {
         }
     }
 
+    /**
+     * 주어진 날짜 범위에 해당하는 이벤트를 한 줄에 하나씩 JSON으로 출력합니다.
+     * 결과를 한 번에 메모리에 올리지 않고 DB 커서로 한 행씩 읽어 바로 쓰므로 결과 크기와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @param outputStream 결과를 쓸 출력 스트림
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    @Transactional(readOnly = true)
+    public void streamEventByDate(LocalDate startDate, LocalDate endDate, OutputStream outputStream) throws IOException {
+        try (Stream<EventSummaryDto> events = eventRepository.streamSummaryByCreatedAtBetween(startDate.atStartOfDay(), endDate.atStartOfDay())) {
+            long count = writeNdjson(events, outputStream);
+            log.info("streamEventByDate : Success " + count);
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
+    /**
+     * 주어진 이름을 가진 이벤트를 한 줄에 하나씩 JSON으로 출력합니다.
+     *
+     * @param name 이벤트 이름
+     * @param outputStream 결과를 쓸 출력 스트림
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    @Transactional(readOnly = true)
+    public void streamEventByName(String name, OutputStream outputStream) throws IOException {
+        try (Stream<EventSummaryDto> events = eventRepository.streamSummaryByName(name)) {
+            long count = writeNdjson(events, outputStream);
+            log.info("streamEventByName : Success " + count);
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
     /**
      * 주어진 이름을 가진 이벤트 목록을 조회합니다.
      *
      * @param name 이벤트 이름
      * @return 해당 이름을 가진 이벤트 목록
      */
-    public List<Event> getEventByName(String name) {
+    public List<EventSummaryDto> getEventByName(String name) {
         try {
-            List<Event> event = eventRepository.findByName(name);
+            List<EventSummaryDto> event = eventRepository.findSummaryByName(name);
             log.info("getEventByName : Success");
             return event;
         } catch (Exception err) {
@@ -104,4 +311,18 @@ public class EventService {
             throw err;
         }
     }
+
+    private long writeNdjson(Stream<EventSummaryDto> events, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(EventSummaryDto.class);
+        long count = 0;
+        for(Iterator<EventSummaryDto> iterator = events.iterator(); iterator.hasNext(); ) {
+            outputStream.write(writer.writeValueAsBytes(iterator.next()));
+            outputStream.write('\n');
+            if(++count % STREAM_FLUSH_ROWS == 0) {
+                outputStream.flush();
+            }
+        }
+        outputStream.flush();
+        return count;
+    }
 }
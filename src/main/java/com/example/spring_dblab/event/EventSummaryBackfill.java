@@ -0,0 +1,37 @@
+package com.example.spring_dblab.event;
+
+import com.example.spring_dblab.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약 컬럼이 추가되기 전에 등록된 이벤트의 요약을 채우는 작업.
+ * 애플리케이션 시작 시 요약이 비어 있는 이벤트를 정해진 수씩 나누어 갱신한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EventSummaryBackfill {
+    private final EventRepository eventRepository;
+
+    @Value("${event.summary.backfill-batch-size}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long filled = 0;
+        int updated;
+        do {
+            updated = eventRepository.fillMissingSummaries(batchSize);
+            filled += updated;
+        } while (updated == batchSize);
+
+        if (filled > 0) {
+            log.info("backfill : " + filled + " event summaries");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.spring_dblab.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조건부 조회(ETag)에 쓰는 이벤트와 리뷰의 버전을 메모리에 보관하는 클래스.
+ * 변경이 커밋될 때마다 단조 증가하는 번호를 부여하므로, 태그를 만들 때 DB를 조회하지 않는다.
+ * 참여 인원처럼 벌크 갱신으로 바뀌어 updated_at에 남지 않는 변경도 함께 반영된다.
+ * 태그에는 애플리케이션 시작 시각을 포함해 재시작 전의 태그와 겹치지 않게 한다.
+ * 다른 인스턴스나 DB에서 직접 일어난 변경은 이 인스턴스의 버전에 남지 않으므로, 태그에 현재 시간 구간도 포함해
+ * 한 태그가 정해진 시간보다 오래 유효하지 않게 한다. 이런 변경은 늦어도 한 구간 안에 응답에 반영된다.
+ */
+@Component
+public class EventVersionTracker {
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final long windowMillis;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong listVersion = new AtomicLong();
+    private final AtomicLong allReviewsVersion = new AtomicLong();
+    private final Map<Long, Long> eventVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> reviewVersions = new ConcurrentHashMap<>();
+
+    public EventVersionTracker(@Value("${event.etag.window-ms}") long windowMillis) {
+        this.windowMillis = Math.max(windowMillis, 1);
+    }
+
+    /**
+     * 이벤트가 추가, 변경 또는 삭제되었음을 기록합니다. 이벤트 목록의 버전도 함께 올라갑니다.
+     *
+     * @param eventId 이벤트 ID
+     */
+    public void touchEvent(long eventId) {
+        eventVersions.merge(eventId, sequence.incrementAndGet(), Math::max);
+        listVersion.incrementAndGet();
+    }
+
+    /**
+     * 이벤트의 리뷰가 추가 또는 삭제되었음을 기록합니다. 목록에 리뷰 집계가 포함되므로 이벤트 목록의 버전도 함께 올라갑니다.
+     *
+     * @param eventId 이벤트 ID
+     */
+    public void touchReviews(long eventId) {
+        reviewVersions.merge(eventId, sequence.incrementAndGet(), Math::max);
+        listVersion.incrementAndGet();
+    }
+
+    /**
+     * 모든 이벤트의 리뷰 집계가 다시 계산되었음을 기록합니다. 어떤 이벤트가 바뀌었는지 모를 때 사용합니다.
+     */
+    public void touchAllReviews() {
+        allReviewsVersion.set(sequence.incrementAndGet());
+        listVersion.incrementAndGet();
+    }
+
+    /**
+     * 이벤트 단건 조회 응답의 ETag를 반환합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return ETag 값
+     */
+    public String eventTag(long eventId) {
+        return prefix() + "-e" + eventVersions.getOrDefault(eventId, 0L);
+    }
+
+    /**
+     * 이벤트 목록 응답의 ETag를 반환합니다. 어떤 이벤트라도 바뀌면 값이 달라집니다.
+     *
+     * @return ETag 값
+     */
+    public String listTag() {
+        return prefix() + "-l" + listVersion.get();
+    }
+
+    /**
+     * 이벤트 리뷰 목록 응답의 ETag를 반환합니다.
+     * 리뷰 응답에는 이벤트 정보도 포함되므로 이벤트 버전도 함께 반영합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return ETag 값
+     */
+    public String reviewTag(long eventId) {
+        return eventTag(eventId) + "-r" + Math.max(reviewVersions.getOrDefault(eventId, 0L), allReviewsVersion.get());
+    }
+
+    private String prefix() {
+        return epoch + "." + Long.toString(System.currentTimeMillis() / windowMillis, 36);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.spring_dblab.notification;
+
+import com.example.spring_dblab.entitiy.NotificationDigest;
+import com.example.spring_dblab.entitiy.NotificationOutbox;
+import com.example.spring_dblab.repository.NotificationDigestRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 모아 받기로 등록된 알림을 사용자별로 쌓아 두었다가 한 통의 메일로 묶어 보내는 서비스.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationDigestService {
+    public static final String DIGEST_SUBJECT = "이벤트 알림 모음";
+
+    private final NotificationDigestRepository notificationDigestRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 모아 받기 목록에 쌓을 알림을 만듭니다.
+     *
+     * @param userId 받는 사용자 ID
+     * @param recipient 받는 사람 이메일
+     * @param eventId 등록된 이벤트 ID
+     * @param eventName 등록된 이벤트 이름
+     * @param words 일치한 알림 단어 목록
+     * @return 모아 받기 목록에 쌓을 알림
+     */
+    public static NotificationDigest createDigest(Long userId, String recipient, Long eventId, String eventName, Collection<String> words) {
+        return new NotificationDigest(userId, recipient, eventId, eventName, String.join(", ", words));
+    }
+
+    /**
+     * 알림을 모아 받기 목록에 한 번의 배치 삽입으로 쌓습니다.
+     *
+     * @param digests 쌓을 알림 목록
+     */
+    @Transactional
+    public void buffer(List<NotificationDigest> digests) {
+        notificationDigestRepository.insertAll(digests);
+        meterRegistry.counter("notification.digest.buffered").increment(digests.size());
+    }
+
+    /**
+     * 쌓여 있는 알림을 최대 userLimit명의 사용자에 대해 한 통씩 묶어 outbox로 옮깁니다.
+     *
+     * @param userLimit 한 번에 처리할 최대 사용자 수
+     * @return 처리한 사용자 수
+     */
+    @Transactional
+    public int flush(int userLimit) {
+        List<Long> userIds = notificationDigestRepository.findBufferedUserIds(userLimit);
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<NotificationDigest> digests = notificationDigestRepository.findByUserIdInOrderByIdAsc(userIds);
+        Map<Long, List<NotificationDigest>> digestsByUser = digests.stream()
+                .collect(Collectors.groupingBy(NotificationDigest::getUserId, LinkedHashMap::new, Collectors.toList()));
+
+        List<NotificationOutbox> notifications = new ArrayList<>();
+        for (List<NotificationDigest> userDigests : digestsByUser.values()) {
+            StringBuilder content = new StringBuilder("알림 단어를 포함한 이벤트 " + userDigests.size() + "건이 등록되었습니다.\n");
+            for (NotificationDigest digest : userDigests) {
+                content.append("\n- ").append(digest.getEventName()).append(" (").append(digest.getWords()).append(")");
+            }
+            notifications.add(new NotificationOutbox(null, userDigests.get(0).getRecipient(), DIGEST_SUBJECT, content.toString()));
+        }
+
+        notificationOutboxService.enqueue(notifications);
+        notificationDigestRepository.deleteAllByIdInBatch(digests.stream().map(NotificationDigest::getId).toList());
+
+        meterRegistry.counter("notification.digest.flushed").increment(digests.size());
+        meterRegistry.counter("notification.digest.sent").increment(notifications.size());
+        log.info("flush : " + digests.size() + " alarms in " + notifications.size() + " digests");
+        return userIds.size();
+    }
+}
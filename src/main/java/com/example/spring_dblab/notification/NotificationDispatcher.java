@@ -0,0 +1,107 @@
+package com.example.spring_dblab.notification;
+
+import com.example.spring_dblab.entitiy.NotificationOutbox;
+import com.example.spring_dblab.utils.EmailService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 알림 outbox를 주기적으로 비우는 발송기.
+ * 알림을 배치 단위로 선점해 제한된 수의 스레드로 동시에 발송하고, 결과를 outbox에 기록한다.
+ * 정해진 주기마다 모아 받기 알림을 사용자별 한 통으로 묶어 outbox에 넣는다.
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationDigestService notificationDigestService;
+    private final EmailService emailService;
+    private final ExecutorService executor;
+    private final int batchSize;
+
+    public NotificationDispatcher(NotificationOutboxService notificationOutboxService,
+                                  NotificationDigestService notificationDigestService,
+                                  EmailService emailService,
+                                  @Value("${notification.dispatch.batch-size}") int batchSize,
+                                  @Value("${notification.dispatch.concurrency}") int concurrency) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.notificationDigestService = notificationDigestService;
+        this.emailService = emailService;
+        this.batchSize = batchSize;
+        this.executor = Executors.newFixedThreadPool(concurrency);
+    }
+
+    /**
+     * 선점 유효 시간이 지나도록 발송 중 상태로 남은 알림을 다시 발송 대상으로 되돌립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${notification.dispatch.lease-ms}", fixedDelayString = "${notification.dispatch.lease-ms}")
+    public void releaseStuck() {
+        int released = notificationOutboxService.releaseStuck();
+        if (released > 0) {
+            log.info("releaseStuck : " + released + " notifications");
+        }
+    }
+
+    /**
+     * 발송할 알림이 없을 때까지 배치 단위로 outbox를 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.dispatch.poll-delay-ms}")
+    public void dispatch() {
+        List<NotificationOutbox> notifications;
+        do {
+            notifications = notificationOutboxService.claim(batchSize);
+            if (!notifications.isEmpty()) {
+                send(notifications);
+            }
+        } while (notifications.size() == batchSize);
+    }
+
+    /**
+     * 쌓여 있는 모아 받기 알림을 사용자별 한 통의 메일로 묶어 outbox에 넣습니다.
+     */
+    @Scheduled(cron = "${notification.digest.flush-cron}")
+    public void flushDigests() {
+        int users;
+        do {
+            users = notificationDigestService.flush(batchSize);
+        } while (users == batchSize);
+    }
+
+    private void send(List<NotificationOutbox> notifications) {
+        Queue<Long> sentIds = new ConcurrentLinkedQueue<>();
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+
+        CompletableFuture.allOf(notifications.stream()
+                .map(notification -> CompletableFuture.runAsync(() -> {
+                    try {
+                        emailService.sendMail(notification.getRecipient(), notification.getSubject(), notification.getContent());
+                        sentIds.add(notification.getId());
+                    } catch (Exception err) {
+                        log.error(String.valueOf(err));
+                        failures.put(notification.getId(), String.valueOf(err));
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new)).join();
+
+        notificationOutboxService.record(new ArrayList<>(sentIds), failures);
+        log.info("dispatch : " + sentIds.size() + " sent, " + failures.size() + " failed");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
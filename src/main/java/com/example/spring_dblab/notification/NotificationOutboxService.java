@@ -0,0 +1,135 @@
+package com.example.spring_dblab.notification;
+
+import com.example.spring_dblab.entitiy.NotificationOutbox;
+import com.example.spring_dblab.enums.OutboxStatusEnum;
+import com.example.spring_dblab.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 outbox 테이블을 다루는 서비스.
+ * 요청 트랜잭션 안에서 알림을 적재하고, 발송기가 발송할 알림을 선점하고 결과를 기록하는 기능을 제공한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+    public static final String ALARM_SUBJECT = "이벤트 알림";
+    public static final String PROMOTION_SUBJECT = "이벤트 참여 확정";
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.dispatch.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${notification.dispatch.backoff-ms}")
+    private long backoffMillis;
+
+    @Value("${notification.dispatch.lease-ms}")
+    private long leaseMillis;
+
+    /**
+     * 알림 단어와 일치한 이벤트에 대한 알림 메일을 만듭니다.
+     *
+     * @param eventId 등록된 이벤트 ID
+     * @param recipient 받는 사람 이메일
+     * @param words 일치한 알림 단어 목록
+     * @return outbox에 적재할 알림
+     */
+    public static NotificationOutbox createAlarm(Long eventId, String recipient, Collection<String> words) {
+        String content = String.join(", ", words) + " 단어를 포함한 이벤트가 등록되었습니다.";
+        return new NotificationOutbox(eventId, recipient, ALARM_SUBJECT, content);
+    }
+
+    /**
+     * 대기열에서 참여가 확정된 사용자에게 보낼 알림 메일을 만듭니다.
+     *
+     * @param eventId 참여가 확정된 이벤트 ID
+     * @param recipient 받는 사람 이메일
+     * @param eventName 이벤트 이름
+     * @return outbox에 적재할 알림
+     */
+    public static NotificationOutbox createPromotion(Long eventId, String recipient, String eventName) {
+        String content = "대기 중이던 이벤트 " + eventName + "에 참여가 확정되었습니다.";
+        return new NotificationOutbox(eventId, recipient, PROMOTION_SUBJECT, content);
+    }
+
+    /**
+     * 알림을 outbox에 한 번의 배치 삽입으로 적재합니다.
+     * 호출한 쪽의 트랜잭션에 참여하므로 이벤트 등록이 취소되면 알림도 함께 취소됩니다.
+     *
+     * @param notifications 적재할 알림 목록
+     */
+    @Transactional
+    public void enqueue(List<NotificationOutbox> notifications) {
+        notificationOutboxRepository.insertAll(notifications);
+        meterRegistry.counter("notification.outbox.enqueued").increment(notifications.size());
+    }
+
+    /**
+     * 발송 시각이 된 알림을 최대 limit개까지 선점하고 발송 중 상태로 바꿉니다.
+     *
+     * @param limit 한 번에 선점할 최대 알림 수
+     * @return 선점한 알림 목록
+     */
+    @Transactional
+    public List<NotificationOutbox> claim(int limit) {
+        List<NotificationOutbox> notifications = notificationOutboxRepository.lockDueNotifications(LocalDateTime.now(), limit);
+        if (!notifications.isEmpty()) {
+            notificationOutboxRepository.updateStatus(notifications.stream().map(NotificationOutbox::getId).toList(), OutboxStatusEnum.SENDING);
+        }
+        return notifications;
+    }
+
+    /**
+     * 발송 결과를 기록합니다.
+     * 실패한 알림은 지수 백오프로 다음 발송 시각을 미루고, 최대 시도 횟수를 넘으면 실패 상태로 둡니다.
+     *
+     * @param sentIds 발송에 성공한 알림 ID 목록
+     * @param failures 발송에 실패한 알림 ID와 오류 메시지
+     */
+    @Transactional
+    public void record(Collection<Long> sentIds, Map<Long, String> failures) {
+        if (!sentIds.isEmpty()) {
+            notificationOutboxRepository.markSent(sentIds, OutboxStatusEnum.SENT, LocalDateTime.now());
+        }
+
+        for (NotificationOutbox notification : notificationOutboxRepository.findAllById(failures.keySet())) {
+            int attempts = notification.getAttempts() + 1;
+            String error = failures.get(notification.getId());
+
+            notification.setAttempts(attempts);
+            notification.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), 1000)));
+            if (attempts >= maxAttempts) {
+                notification.setStatus(OutboxStatusEnum.FAILED);
+                log.error("record : Notification " + notification.getId() + " failed after " + attempts + " attempts");
+            } else {
+                notification.setStatus(OutboxStatusEnum.PENDING);
+                notification.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMillis).multipliedBy(1L << (attempts - 1))));
+            }
+        }
+    }
+
+    /**
+     * 발송 중 상태로 선점된 지 선점 유효 시간이 지난 알림을 다시 대기 상태로 되돌립니다.
+     * 발송기가 중단되어 남은 알림만 되돌리며, 다른 인스턴스가 지금 발송 중인 알림은 건드리지 않습니다.
+     *
+     * @return 되돌린 알림 수
+     */
+    @Transactional
+    public int releaseStuck() {
+        LocalDateTime expired = LocalDateTime.now().minus(Duration.ofMillis(leaseMillis));
+        return notificationOutboxRepository.updateStatusUpdatedBefore(OutboxStatusEnum.SENDING, OutboxStatusEnum.PENDING, expired);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.spring_dblab.notification;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증을 마친 SMTP 연결을 재사용하는 풀.
+ * 메일마다 연결, STARTTLS, 인증을 반복하지 않고 열린 연결로 여러 메일을 보내며,
+ * 한 연결로 정해진 수의 메일을 보냈거나 오류가 발생하면 연결을 닫고 새로 연다.
+ */
+@Component
+@Slf4j
+public class SmtpTransportPool {
+    private final JavaMailSenderImpl mailSender;
+    private final int maxMessagesPerConnection;
+    private final Semaphore permits;
+    private final BlockingQueue<PooledTransport> idle = new LinkedBlockingQueue<>();
+    private final AtomicLong openedConnections = new AtomicLong();
+    private final AtomicLong sentMessages = new AtomicLong();
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+                             @Value("${notification.smtp.pool-size}") int poolSize,
+                             @Value("${notification.smtp.max-messages-per-connection}") int maxMessagesPerConnection) {
+        this.mailSender = mailSender;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.permits = new Semaphore(poolSize);
+    }
+
+    /**
+     * 풀의 연결을 빌려 메일을 발송합니다.
+     * 사용할 수 있는 연결이 없으면 다른 발송이 끝날 때까지 기다립니다.
+     *
+     * @param message 발송할 메일
+     * @throws MessagingException 연결 또는 발송에 실패한 경우
+     */
+    public void send(MimeMessage message) throws MessagingException {
+        permits.acquireUninterruptibly();
+        PooledTransport transport = null;
+        boolean healthy = false;
+        try {
+            transport = borrow();
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.transport.sendMessage(message, message.getAllRecipients());
+            transport.sent++;
+            sentMessages.incrementAndGet();
+            healthy = true;
+        } finally {
+            if (transport != null) {
+                release(transport, healthy);
+            }
+            permits.release();
+        }
+    }
+
+    public long getOpenedConnections() {
+        return openedConnections.get();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        PooledTransport transport;
+        while ((transport = idle.poll()) != null) {
+            closeQuietly(transport);
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport transport;
+        while ((transport = idle.poll()) != null) {
+            if (transport.transport.isConnected()) {
+                return transport;
+            }
+            closeQuietly(transport);
+        }
+
+        Transport connection = mailSender.getSession().getTransport(mailSender.getProtocol());
+        connection.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        openedConnections.incrementAndGet();
+        return new PooledTransport(connection);
+    }
+
+    private void release(PooledTransport transport, boolean healthy) {
+        if (healthy && transport.sent < maxMessagesPerConnection) {
+            idle.offer(transport);
+            return;
+        }
+        closeQuietly(transport);
+    }
+
+    private void closeQuietly(PooledTransport transport) {
+        try {
+            transport.transport.close();
+        } catch (MessagingException err) {
+            log.error(String.valueOf(err));
+        }
+    }
+
+    private static class PooledTransport {
+        private final Transport transport;
+        private int sent = 0;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -1,26 +1,32 @@
 package com.example.spring_dblab.organize;
 
+import com.example.spring_dblab.alarm.AlarmWordIndex;
 import com.example.spring_dblab.dto.EventDeleteDto;
 import com.example.spring_dblab.dto.EventDto;
 import com.example.spring_dblab.dto.EventEditDto;
 import com.example.spring_dblab.entitiy.Event;
-import com.example.spring_dblab.entitiy.EventParticipation;
+import com.example.spring_dblab.entitiy.NotificationDigest;
+import com.example.spring_dblab.entitiy.NotificationOutbox;
 import com.example.spring_dblab.entitiy.User;
-import com.example.spring_dblab.entitiy.UserAlarm;
-import com.example.spring_dblab.repository.EventParticipationRepository;
+import com.example.spring_dblab.event.EventAutocomplete;
+import com.example.spring_dblab.event.EventCache;
+import com.example.spring_dblab.event.EventCountTracker;
+import com.example.spring_dblab.event.EventRemover;
+import com.example.spring_dblab.event.EventSearchIndex;
+import com.example.spring_dblab.notification.NotificationDigestService;
+import com.example.spring_dblab.notification.NotificationOutboxService;
+import com.example.spring_dblab.participate.HotSeatCounter;
 import com.example.spring_dblab.repository.EventRepository;
-import com.example.spring_dblab.repository.UserAlarmRepository;
 import com.example.spring_dblab.repository.UserRepository;
-import com.example.spring_dblab.utils.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 
 import static com.example.spring_dblab.utils.SecurityUtil.getCurrentMemberEmail;
+import static com.example.spring_dblab.utils.TransactionUtil.afterCommit;
 
 /**
  * 이벤트 관리와 관련된 서비스를 제공하는 클래스.
@@ -32,9 +38,15 @@ import static com.example.spring_dblab.utils.SecurityUtil.getCurrentMemberEmail;
 public class OrganizeService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
-    private final UserAlarmRepository userAlarmRepository;
-    private final EmailService emailService;
-    private final EventParticipationRepository eventParticipationRepository;
+    private final AlarmWordIndex alarmWordIndex;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationDigestService notificationDigestService;
+    private final HotSeatCounter hotSeatCounter;
+    private final EventRemover eventRemover;
+    private final EventCountTracker eventCountTracker;
+    private final EventCache eventCache;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventAutocomplete eventAutocomplete;
 
     public String checkOrganizer() {
         return "success";
@@ -47,6 +59,7 @@ public class OrganizeService {
      * @return 이벤트 추가 성공 여부를 나타내는 문자열
      * @throws Exception 이벤트 추가 과정에서 발생할 수 있는 예외
      */
+    @Transactional(rollbackFor = Exception.class)
     public String addEvent(EventDto eventDto) throws Exception {
         try {
             String name = eventDto.getName();
@@ -54,22 +67,44 @@ public class OrganizeService {
             String userEmail = getCurrentMemberEmail();
             Optional<User> user = userRepository.findByEmail(userEmail);
 
-            if(user.isPresent()) {
-                Event event = new Event(name, description, user.get(), eventDto.getMaxParticipation());
-                eventRepository.save(event);
-            } else {
+            if(user.isEmpty()) {
                 log.error("addEvent : User not Found");
                 throw new Exception("User not Found");
             }
 
-            List<UserAlarm> userAlarmList = userAlarmRepository.findAll();
+            Event event = new Event(name, description, user.get(), eventDto.getMaxParticipation());
+            event.setHot(eventDto.isHot());
+            eventRepository.save(event);
+            afterCommit(eventCountTracker::increment);
+            long indexedId = event.getId();
+            afterCommit(() -> eventCache.invalidate(indexedId));
+            afterCommit(() -> eventSearchIndex.index(indexedId, name, description));
+            afterCommit(() -> eventAutocomplete.put(indexedId, name));
+            if(event.isHot()) {
+                long eventId = event.getId();
+                afterCommit(() -> hotSeatCounter.load(eventId));
+            }
+
+            List<NotificationOutbox> notifications = new ArrayList<>();
+            List<NotificationDigest> digests = new ArrayList<>();
+            for(Map.Entry<Long, Set<String>> match : alarmWordIndex.match(description).entrySet()) {
+                Long alarmUserId = match.getKey();
+                String email = alarmWordIndex.getEmail(alarmUserId);
+                Set<String> immediateWords = new LinkedHashSet<>();
+                Set<String> digestWords = new LinkedHashSet<>();
+                for(String word : match.getValue()) {
+                    (alarmWordIndex.isDigest(alarmUserId, word) ? digestWords : immediateWords).add(word);
+                }
 
-            for(UserAlarm i : userAlarmList) {
-                if(description.contains(i.getWord())) {
-                    User alaramUser = i.getUser();
-                    this.emailService.sendMail(alaramUser.getEmail(), i.getWord());
+                if(!immediateWords.isEmpty()) {
+                    notifications.add(NotificationOutboxService.createAlarm(event.getId(), email, immediateWords));
+                }
+                if(!digestWords.isEmpty()) {
+                    digests.add(NotificationDigestService.createDigest(alarmUserId, email, event.getId(), name, digestWords));
                 }
             }
+            notificationOutboxService.enqueue(notifications);
+            notificationDigestService.buffer(digests);
 
             log.info("addEvent : Success");
             return "success";
@@ -103,6 +138,9 @@ public class OrganizeService {
                     event.setName(name);
                     event.setDescription(description);
                     eventRepository.save(event);
+                    afterCommit(() -> eventCache.invalidate(eventCode));
+                    afterCommit(() -> eventSearchIndex.index(eventCode, name, description));
+                    afterCommit(() -> eventAutocomplete.put(eventCode, name));
                 }
 
                 log.info("updateEvent : Success");
@@ -119,11 +157,13 @@ public class OrganizeService {
 
     /**
      * 기존 이벤트를 삭제합니다.
+     * 참여 기록, 대기열, 리뷰와 리뷰 집계, 아직 보내지 않은 알림은 {@link EventRemover}로 같은 트랜잭션에서 함께 삭제합니다.
      *
      * @param eventDeleteDto 삭제할 이벤트 정보를 담은 데이터 전송 객체
      * @return 이벤트 삭제 성공 여부를 나타내는 문자열
      * @throws Exception 이벤트 삭제 과정에서 발생할 수 있는 예외
      */
+    @Transactional(rollbackFor = Exception.class)
     public String deleteEvent(EventDeleteDto eventDeleteDto) throws Exception {
         try {
             long eventCode = eventDeleteDto.getEventId();
@@ -137,9 +177,9 @@ public class OrganizeService {
                 Optional<User> user = userRepository.findByEmail(userEmail);
 
                 if(user.isPresent()&& Objects.equals(user.get().getEmail(), event.getUser().getEmail())){
-                    List<EventParticipation> eventParticipationsList = eventParticipationRepository.findEventParticipationsByEvent(event);
-                    eventParticipationRepository.deleteAll(eventParticipationsList);
+                    eventRemover.deleteDependents(List.of(eventCode));
                     eventRepository.delete(event);
+                    eventRemover.afterCommitRemoved(List.of(eventCode));
                     log.info("deleteEvent : Success");
                     return "success";
                 }
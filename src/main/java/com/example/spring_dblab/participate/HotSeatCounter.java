@@ -0,0 +1,452 @@
+package com.example.spring_dblab.participate;
+
+import com.example.spring_dblab.dto.HotEventView;
+import com.example.spring_dblab.entitiy.EventWaitlist;
+import com.example.spring_dblab.event.EventCache;
+import com.example.spring_dblab.repository.EventParticipationRepository;
+import com.example.spring_dblab.repository.EventRepository;
+import com.example.spring_dblab.repository.EventWaitlistRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 선착순 마감이 예상되는 이벤트(hot event)의 좌석을 메모리에서 관리하는 카운터.
+ * 참여 가능 여부는 이벤트별 원자적 카운터로 즉시 판단하고, 승인된 참여 기록은 모아서 주기적으로 DB에 기록한다.
+ * 애플리케이션 시작 시 DB의 참여 현황으로 카운터를 다시 만들며, 메모리에서 최대 인원을 넘겨 승인하는 일은 없다.
+ * 카운터를 다시 만들 때는 아직 기록되지 않은 승인 건을 함께 반영하며, 그동안 해당 이벤트의 승인은 잠시 멈춘다.
+ */
+@Component
+@Slf4j
+public class HotSeatCounter {
+    public enum Admission {
+        ADMITTED,
+        ALREADY_PARTICIPATING,
+        FULL
+    }
+
+    private final EventRepository eventRepository;
+    private final EventParticipationRepository eventParticipationRepository;
+    private final EventWaitlistRepository eventWaitlistRepository;
+    private final EventCache eventCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int flushBatchSize;
+    private final int maxWriteAttempts;
+
+    private final Map<Long, HotEvent> events = new ConcurrentHashMap<>();
+    private final Queue<PendingParticipation> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public HotSeatCounter(EventRepository eventRepository,
+                          EventParticipationRepository eventParticipationRepository,
+                          EventWaitlistRepository eventWaitlistRepository,
+                          EventCache eventCache,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${participate.hot.flush-batch-size}") int flushBatchSize,
+                          @Value("${participate.hot.max-write-attempts}") int maxWriteAttempts) {
+        this.eventRepository = eventRepository;
+        this.eventParticipationRepository = eventParticipationRepository;
+        this.eventWaitlistRepository = eventWaitlistRepository;
+        this.eventCache = eventCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushBatchSize = flushBatchSize;
+        this.maxWriteAttempts = Math.max(maxWriteAttempts, 1);
+    }
+
+    /**
+     * 주어진 이벤트가 메모리 카운터로 관리되는지 확인합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 메모리 카운터로 관리된다면 true
+     */
+    public boolean isHot(long eventId) {
+        return events.containsKey(eventId);
+    }
+
+    /**
+     * 메모리 카운터로 참여 가능 여부를 판단하고, 승인되면 참여 기록을 DB 기록 대기열에 넣습니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param userId 참여할 사용자 ID
+     * @return 승인 결과
+     */
+    public Admission tryAdmit(long eventId, long userId) {
+        HotEvent event = events.get(eventId);
+        if (event == null) {
+            throw new IllegalStateException("Not hot event : " + eventId);
+        }
+
+        event.lock.readLock().lock();
+        try {
+            if (!event.participants.add(userId)) {
+                return Admission.ALREADY_PARTICIPATING;
+            }
+
+            if (!event.tryAcquire()) {
+                event.participants.remove(userId);
+                return Admission.FULL;
+            }
+
+            pending.add(new PendingParticipation(eventId, userId));
+            return Admission.ADMITTED;
+        } finally {
+            event.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 사용자의 참여 가능 여부를 한 번에 판단합니다.
+     * partial이 false라면 모두 승인할 수 있을 때만 승인하고, 하나라도 승인할 수 없으면 아무도 승인하지 않습니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param userIds 참여할 사용자 ID 목록
+     * @param partial 일부만 승인해도 되는지 여부
+     * @return 사용자 ID별 승인 결과
+     */
+    public Map<Long, Admission> tryAdmitAll(long eventId, Collection<Long> userIds, boolean partial) {
+        HotEvent event = events.get(eventId);
+        if (event == null) {
+            throw new IllegalStateException("Not hot event : " + eventId);
+        }
+
+        Map<Long, Admission> result = new LinkedHashMap<>();
+        List<Long> added = new ArrayList<>();
+        event.lock.readLock().lock();
+        try {
+            for (Long userId : userIds) {
+                if (event.participants.add(userId)) {
+                    added.add(userId);
+                } else {
+                    result.putIfAbsent(userId, Admission.ALREADY_PARTICIPATING);
+                }
+            }
+
+            long acquired = !partial && !result.isEmpty() ? 0 : event.tryAcquire(added.size(), partial);
+            for (int i = 0; i < added.size(); i++) {
+                Long userId = added.get(i);
+                if (i < acquired) {
+                    pending.add(new PendingParticipation(eventId, userId));
+                    result.put(userId, Admission.ADMITTED);
+                } else {
+                    event.participants.remove(userId);
+                    result.put(userId, Admission.FULL);
+                }
+            }
+        } finally {
+            event.lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 참여가 취소된 좌석을 카운터에 돌려줍니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param userId 참여를 취소한 사용자 ID
+     */
+    public void release(long eventId, long userId) {
+        HotEvent event = events.get(eventId);
+        if (event == null) {
+            return;
+        }
+
+        event.lock.readLock().lock();
+        try {
+            if (event.participants.remove(userId)) {
+                event.remaining.incrementAndGet();
+            }
+        } finally {
+            event.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 참여를 취소한 사용자의 좌석을 대기열에서 승격된 사용자에게 넘깁니다.
+     * 좌석 수는 바뀌지 않으며, 승격된 참여 기록은 호출한 쪽에서 직접 DB에 기록합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param fromUserId 참여를 취소한 사용자 ID
+     * @param toUserId 승격된 사용자 ID
+     */
+    public void transfer(long eventId, long fromUserId, long toUserId) {
+        HotEvent event = events.get(eventId);
+        if (event == null) {
+            return;
+        }
+
+        event.lock.readLock().lock();
+        try {
+            event.participants.remove(fromUserId);
+            event.participants.add(toUserId);
+        } finally {
+            event.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 승인한 참여를 되돌립니다. 승인을 돌려준 요청의 트랜잭션이 롤백되었을 때 사용합니다.
+     * 아직 기록되지 않았다면 기록 대기열에서 빼고, 이미 기록되었다면 참여 기록을 지우고 좌석 수를 줄인 뒤 좌석을 카운터에 돌려줍니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param userId 승인을 되돌릴 사용자 ID
+     */
+    public void revoke(long eventId, long userId) {
+        flushLock.lock();
+        try {
+            if (!pending.removeIf(participation -> participation.eventId == eventId && participation.userId == userId)) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (eventParticipationRepository.deleteByEventIdAndUserId(eventId, userId) > 0) {
+                        eventRepository.decreaseParticipation(eventId);
+                    }
+                });
+                eventCache.invalidate(eventId);
+            }
+            release(eventId, userId);
+            log.info("revoke : Participation of user " + userId + " in event " + eventId + " revoked");
+        } catch (Exception err) {
+            log.error("revoke : Failed for event " + eventId + ", user " + userId + ", " + err);
+            load(eventId);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * DB에 기록된 현재 참여 현황과 아직 기록되지 않은 승인 건으로 이벤트의 카운터를 만들거나 다시 만듭니다.
+     * 기록 중인 승인 건이 없도록 DB 기록과 번갈아 수행합니다.
+     *
+     * @param eventId 이벤트 ID
+     */
+    public void load(long eventId) {
+        flushLock.lock();
+        try {
+            Optional<HotEventView> hotEvent = eventRepository.findHotEvent(eventId);
+            if (hotEvent.isEmpty()) {
+                events.remove(eventId);
+                return;
+            }
+
+            HotEvent existing = events.get(eventId);
+            HotEvent event = existing != null ? existing : new HotEvent();
+            event.lock.writeLock().lock();
+            try {
+                List<Long> queued = new ArrayList<>();
+                for (PendingParticipation participation : pending) {
+                    if (participation.eventId == eventId) {
+                        queued.add(participation.userId);
+                    }
+                }
+
+                List<Long> recorded = eventParticipationRepository.findUserIdsByEventId(eventId);
+                event.participants.clear();
+                event.participants.addAll(recorded);
+                event.participants.addAll(queued);
+                event.remaining.set(Math.max(hotEvent.get().getMaxParticipation() - recorded.size() - queued.size(), 0));
+                events.putIfAbsent(eventId, event);
+            } finally {
+                event.lock.writeLock().unlock();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 이벤트를 메모리 카운터 관리 대상에서 제외하고, 아직 기록되지 않은 승인 건을 버립니다.
+     * 삭제된 이벤트에만 사용합니다.
+     *
+     * @param eventId 이벤트 ID
+     */
+    public void remove(long eventId) {
+        events.remove(eventId);
+        pending.removeIf(participation -> participation.eventId == eventId);
+    }
+
+    /**
+     * 애플리케이션 시작 시 모든 hot event의 카운터를 DB에서 다시 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        for (HotEventView hotEvent : eventRepository.findHotEvents()) {
+            load(hotEvent.getId());
+        }
+        log.info("rebuild : " + events.size() + " hot events");
+    }
+
+    /**
+     * 승인된 참여 기록을 이벤트별로 묶어 DB에 기록합니다.
+     * 묶음 기록에 실패하면 한 건씩 다시 기록합니다. DB 연결 문제처럼 일시적인 실패라면 남은 승인 건을 그대로 대기열에 되돌리고,
+     * 제약 조건 위반처럼 그 승인 건 자체의 문제라면 시도 횟수를 세어 정해진 횟수를 넘으면 버리고 좌석을 돌려줍니다.
+     * DB에 남은 좌석이 없어 기록할 수 없는 승인 건은 이벤트 대기열에 등록해 좌석이 나면 승격되도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${participate.hot.flush-delay-ms}")
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            while (flushBatch() == flushBatchSize) {
+                log.info("flush : Backlog remaining, flushing next batch");
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushBatch() {
+        Map<Long, List<PendingParticipation>> batch = new LinkedHashMap<>();
+        PendingParticipation participation;
+        int size = 0;
+        while (size < flushBatchSize && (participation = pending.poll()) != null) {
+            batch.computeIfAbsent(participation.eventId, key -> new ArrayList<>()).add(participation);
+            size++;
+        }
+
+        boolean requeued = false;
+        for (Map.Entry<Long, List<PendingParticipation>> entry : batch.entrySet()) {
+            requeued |= !write(entry.getKey(), entry.getValue());
+        }
+        return requeued ? 0 : size;
+    }
+
+    private boolean write(long eventId, List<PendingParticipation> participations) {
+        List<Long> userIds = new ArrayList<>(participations.size());
+        for (PendingParticipation participation : participations) {
+            userIds.add(participation.userId);
+        }
+
+        try {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> writeRows(eventId, userIds)))) {
+                eventCache.invalidate(eventId);
+                return true;
+            }
+            log.error("flush : Seat count exceeded for event " + eventId + ", writing " + userIds.size() + " participations one by one");
+        } catch (Exception err) {
+            log.error("flush : Batch failed for event " + eventId + ", writing " + userIds.size() + " participations one by one, " + err);
+        }
+        return writeEach(eventId, participations);
+    }
+
+    private boolean writeEach(long eventId, List<PendingParticipation> participations) {
+        boolean waitlisted = false;
+        boolean retried = false;
+        for (int i = 0; i < participations.size(); i++) {
+            PendingParticipation participation = participations.get(i);
+            long userId = participation.userId;
+            try {
+                if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> writeRows(eventId, List.of(userId))))) {
+                    transactionTemplate.executeWithoutResult(status -> joinWaitlist(eventId, userId));
+                    log.error("flush : No seat left for event " + eventId + ", user " + userId + " moved to waitlist");
+                    waitlisted = true;
+                }
+            } catch (NonTransientDataAccessException err) {
+                if (participation.attempts + 1 >= maxWriteAttempts) {
+                    log.error("flush : Giving up participation of user " + userId + " in event " + eventId
+                            + " after " + maxWriteAttempts + " attempts, seat released, " + err);
+                    release(eventId, userId);
+                } else {
+                    pending.add(new PendingParticipation(eventId, userId, participation.attempts + 1));
+                    retried = true;
+                }
+            } catch (Exception err) {
+                List<PendingParticipation> remaining = participations.subList(i, participations.size());
+                pending.addAll(remaining);
+                log.error("flush : Failed for event " + eventId + ", " + remaining.size() + " participations requeued, " + err);
+                eventCache.invalidate(eventId);
+                return false;
+            }
+        }
+
+        eventCache.invalidate(eventId);
+        if (waitlisted) {
+            load(eventId);
+        }
+        return !retried;
+    }
+
+    private void joinWaitlist(long eventId, long userId) {
+        if (eventWaitlistRepository.findByEventIdAndUserId(eventId, userId).isEmpty()) {
+            eventWaitlistRepository.save(new EventWaitlist(eventId, userId));
+        }
+    }
+
+    /**
+     * 이미 기록된 참여는 건너뛰고 나머지만 좌석 수와 함께 기록합니다.
+     *
+     * @return DB에 남은 좌석이 부족하면 false
+     */
+    private boolean writeRows(long eventId, List<Long> userIds) {
+        List<Long> inserting = new ArrayList<>(userIds);
+        inserting.removeAll(eventParticipationRepository.findUserIdsByEventIdAndUserIdIn(eventId, userIds));
+        if (inserting.isEmpty()) {
+            return true;
+        }
+
+        if (eventRepository.increaseParticipation(eventId, inserting.size()) == 0) {
+            return false;
+        }
+        eventParticipationRepository.insertAll(eventId, inserting);
+        return true;
+    }
+
+    private static class HotEvent {
+        private final AtomicLong remaining = new AtomicLong();
+        private final Set<Long> participants = ConcurrentHashMap.newKeySet();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private long tryAcquire(long count, boolean partial) {
+            long current;
+            long acquired;
+            do {
+                current = remaining.get();
+                acquired = partial ? Math.min(current, count) : (current >= count ? count : 0);
+                if (acquired <= 0) {
+                    return 0;
+                }
+            } while (!remaining.compareAndSet(current, current - acquired));
+            return acquired;
+        }
+
+        private boolean tryAcquire() {
+            long current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+    }
+
+    private static class PendingParticipation {
+        private final long eventId;
+        private final long userId;
+        private final int attempts;
+
+        private PendingParticipation(long eventId, long userId) {
+            this(eventId, userId, 0);
+        }
+
+        private PendingParticipation(long eventId, long userId, int attempts) {
+            this.eventId = eventId;
+            this.userId = userId;
+            this.attempts = attempts;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.spring_dblab.participate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 참여/일괄 참여/참여 취소 요청 앞단의 대기실.
+ * 동시에 처리 중인 참여 요청 수를 제한하고, 한도를 넘은 요청에는 대기표를 발급해 429로 즉시 돌려보낸다.
+ * 대기표는 정해진 주기마다 정해진 수만큼 입장 가능해지며, 대기열이 가득 차면 대기표 없이 거절한다.
+ * 대기표는 추측할 수 없는 임의 값으로 발급해 서버에 순번과 함께 기록하고, 입장에 쓰이면 바로 폐기한다.
+ * 발급하지 않았거나 이미 쓰인 대기표는 거절하며, 입장 가능해진 뒤 한동안 쓰이지 않은 대기표도 폐기한다.
+ * 요청이 Tomcat 스레드와 DB 연결을 붙잡고 기다리지 않으므로 다른 API가 영향을 받지 않는다.
+ */
+@Component
+@Slf4j
+public class ParticipateAdmissionInterceptor implements HandlerInterceptor {
+    public static final String TICKET_HEADER = "X-Queue-Ticket";
+    private static final String PERMIT_ATTRIBUTE = ParticipateAdmissionInterceptor.class.getName() + ".permit";
+
+    private final Semaphore permits;
+    private final long admitIntervalMillis;
+    private final long admitPerInterval;
+    private final long maxQueue;
+    private final AtomicLong issuedTicket = new AtomicLong();
+    private final AtomicLong servingTicket = new AtomicLong();
+    private final Map<String, Long> tickets = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private long expireUpTo = 0;
+    private final Counter admittedCounter;
+    private final Counter queuedCounter;
+    private final Counter rejectedCounter;
+
+    public ParticipateAdmissionInterceptor(MeterRegistry meterRegistry,
+                                           @Value("${participate.admission.max-in-flight}") int maxInFlight,
+                                           @Value("${participate.admission.admit-interval-ms}") long admitIntervalMillis,
+                                           @Value("${participate.admission.admit-per-interval}") long admitPerInterval,
+                                           @Value("${participate.admission.max-queue}") long maxQueue) {
+        this.permits = new Semaphore(maxInFlight);
+        this.admitIntervalMillis = admitIntervalMillis;
+        this.admitPerInterval = admitPerInterval;
+        this.maxQueue = maxQueue;
+        this.admittedCounter = meterRegistry.counter("participate.admission.admitted");
+        this.queuedCounter = meterRegistry.counter("participate.admission.queued");
+        this.rejectedCounter = meterRegistry.counter("participate.admission.rejected");
+        Gauge.builder("participate.admission.waiting", this, ParticipateAdmissionInterceptor::getWaiting)
+                .register(meterRegistry);
+        Gauge.builder("participate.admission.in-flight", permits, semaphore -> maxInFlight - semaphore.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!"POST".equals(request.getMethod()) && !"DELETE".equals(request.getMethod())) {
+            return true;
+        }
+
+        String ticket = request.getHeader(TICKET_HEADER);
+        Long number = null;
+        if (ticket != null && !ticket.isBlank()) {
+            number = tickets.get(ticket);
+            if (number == null) {
+                rejectedCounter.increment();
+                invalid(response);
+                return false;
+            }
+        }
+
+        boolean turn = number != null ? number <= servingTicket.get() : getWaiting() == 0;
+        if (turn && permits.tryAcquire()) {
+            if (number != null && !tickets.remove(ticket, number)) {
+                permits.release();
+                rejectedCounter.increment();
+                invalid(response);
+                return false;
+            }
+            request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+            admittedCounter.increment();
+            return true;
+        }
+
+        if (number == null) {
+            if (getWaiting() >= maxQueue) {
+                rejectedCounter.increment();
+                reject(response, null, 0, retryAfterSeconds(maxQueue));
+                return false;
+            }
+            ticket = newTicket();
+            number = issuedTicket.incrementAndGet();
+            tickets.put(ticket, number);
+            queuedCounter.increment();
+        }
+
+        long ahead = Math.max(number - servingTicket.get(), 0);
+        reject(response, ticket, ahead, retryAfterSeconds(ahead));
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+
+    /**
+     * 정해진 수만큼 대기표의 입장 순번을 앞당깁니다.
+     */
+    @Scheduled(fixedRateString = "${participate.admission.admit-interval-ms}")
+    public void advance() {
+        long issued = issuedTicket.get();
+        servingTicket.updateAndGet(serving -> Math.min(issued, serving + admitPerInterval));
+    }
+
+    /**
+     * 입장 가능해진 뒤 한 주기 동안 쓰이지 않은 대기표를 폐기합니다.
+     */
+    @Scheduled(fixedDelayString = "${participate.admission.ticket-ttl-ms}")
+    public synchronized void expire() {
+        long upTo = expireUpTo;
+        if (upTo > 0) {
+            tickets.values().removeIf(number -> number <= upTo);
+        }
+        expireUpTo = servingTicket.get();
+    }
+
+    public long getWaiting() {
+        return Math.max(issuedTicket.get() - servingTicket.get(), 0);
+    }
+
+    private long retryAfterSeconds(long ahead) {
+        long intervals = (Math.max(ahead, 1) + admitPerInterval - 1) / admitPerInterval;
+        return Math.max((intervals * admitIntervalMillis + 999) / 1000, 1);
+    }
+
+    private void reject(HttpServletResponse response, String ticket, long ahead, long retryAfter) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfter));
+        if (ticket != null) {
+            response.setHeader(TICKET_HEADER, ticket);
+        }
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(ticket != null ? "waiting " + ahead : "Too many requests");
+    }
+
+    private void invalid(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Invalid queue ticket");
+    }
+
+    private String newTicket() {
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
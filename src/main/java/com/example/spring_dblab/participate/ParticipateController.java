@@ -1,6 +1,8 @@
 package com.example.spring_dblab.participate;
 
 import com.example.spring_dblab.dto.AlarmDto;
+import com.example.spring_dblab.dto.ParticipateBatchDto;
+import com.example.spring_dblab.dto.ParticipateBatchResultDto;
 import com.example.spring_dblab.dto.ParticipateDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -43,12 +45,26 @@ public class ParticipateController {
      * 이벤트에 참여합니다.
      *
      * @param participateDto 이벤트 참여 정보를 담은 데이터 전송 객체
-     * @return 이벤트 참여 성공 여부를 나타내는 문자열
+     * @param idempotencyKey 재시도 시 같은 결과를 돌려받기 위한 멱등 키
+     * @return 이벤트 참여 성공 여부 또는 대기 순번을 나타내는 문자열
      * @throws Exception 이벤트 참여 과정에서 발생할 수 있는 예외
      */
     @PostMapping()
-    public String participateEvent(@RequestBody ParticipateDto participateDto) throws Exception {
-        return participateService.participateEvent(participateDto);
+    public String participateEvent(@RequestBody ParticipateDto participateDto,
+                                   @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) throws Exception {
+        return participateService.participateEvent(participateDto, idempotencyKey);
+    }
+
+    /**
+     * 여러 사용자를 한 번에 이벤트에 참여시킵니다.
+     *
+     * @param participateBatchDto 이벤트 ID와 참여할 사용자 이메일 목록을 담은 데이터 전송 객체
+     * @return 참여 인원과 사용자별 참여 결과
+     * @throws Exception 이벤트 참여 과정에서 발생할 수 있는 예외
+     */
+    @PostMapping("batch")
+    public ParticipateBatchResultDto participateEvents(@RequestBody ParticipateBatchDto participateBatchDto) throws Exception {
+        return participateService.participateEvents(participateBatchDto);
     }
 
     /**
@@ -62,4 +78,16 @@ public class ParticipateController {
     public String deleteParticipateEvent(@RequestBody ParticipateDto participateDto) throws Exception {
         return participateService.deleteParticipateEvent(participateDto);
     }
+
+    /**
+     * 이벤트 대기열에서 현재 사용자의 순번을 조회합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 1부터 시작하는 대기 순번
+     * @throws Exception 대기 순번 조회 과정에서 발생할 수 있는 예외
+     */
+    @GetMapping("waitlist")
+    public long getWaitlistPosition(@RequestParam long eventId) throws Exception {
+        return participateService.getWaitlistPosition(eventId);
+    }
 }
@@ -1,22 +1,44 @@
 package com.example.spring_dblab.participate;
 
+import com.example.spring_dblab.alarm.AlarmWordIndex;
 import com.example.spring_dblab.dto.AlarmDto;
+import com.example.spring_dblab.dto.ParticipateBatchDto;
+import com.example.spring_dblab.dto.ParticipateBatchResultDto;
 import com.example.spring_dblab.dto.ParticipateDto;
+import com.example.spring_dblab.dto.UserIdView;
 import com.example.spring_dblab.entitiy.Event;
 import com.example.spring_dblab.entitiy.EventParticipation;
+import com.example.spring_dblab.entitiy.EventWaitlist;
+import com.example.spring_dblab.entitiy.IdempotencyRecord;
 import com.example.spring_dblab.entitiy.User;
 import com.example.spring_dblab.entitiy.UserAlarm;
+import com.example.spring_dblab.event.EventCache;
+import com.example.spring_dblab.notification.NotificationOutboxService;
 import com.example.spring_dblab.repository.EventParticipationRepository;
 import com.example.spring_dblab.repository.EventRepository;
+import com.example.spring_dblab.repository.EventWaitlistRepository;
+import com.example.spring_dblab.repository.IdempotencyRecordRepository;
 import com.example.spring_dblab.repository.UserAlarmRepository;
 import com.example.spring_dblab.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
 
+import static com.example.spring_dblab.notification.NotificationOutboxService.createPromotion;
 import static com.example.spring_dblab.utils.SecurityUtil.getCurrentMemberEmail;
+import static com.example.spring_dblab.utils.TransactionUtil.afterCommit;
+import static com.example.spring_dblab.utils.TransactionUtil.afterRollback;
 
 /**
  * 사용자 알림 설정 및 이벤트 참여와 관련된 서비스를 제공하는 클래스.
@@ -30,6 +52,16 @@ public class ParticipateService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final EventParticipationRepository eventParticipationRepository;
+    private final AlarmWordIndex alarmWordIndex;
+    private final HotSeatCounter hotSeatCounter;
+    private final EventWaitlistRepository eventWaitlistRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final EventCache eventCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${participate.idempotency.ttl-ms}")
+    private long idempotencyTtlMillis;
 
     /**
      * 사용자 알림 단어를 설정합니다.
@@ -44,8 +76,9 @@ public class ParticipateService {
             String userEmail = getCurrentMemberEmail();
             Optional<User> user = userRepository.findByEmail(userEmail);
             if(user.isPresent()) {
-                UserAlarm userAlarm = new UserAlarm(user.get(), word);
+                UserAlarm userAlarm = new UserAlarm(user.get(), word, alarmDto.isDigest());
                 userAlarmRepository.save(userAlarm);
+                alarmWordIndex.add(user.get().getId(), user.get().getEmail(), word, alarmDto.isDigest());
                 log.info("setAlarmWord : Success");
                 return "success";
             }
@@ -73,6 +106,7 @@ public class ParticipateService {
                 Optional<UserAlarm> userAlarm = userAlarmRepository.findUserAlarmByUserAndWord(user.get(),word);
                 if(userAlarm.isPresent()) {
                     userAlarmRepository.delete(userAlarm.get());
+                    alarmWordIndex.remove(user.get().getId(), word, userAlarm.get().isDigest());
                     log.info("deleteAlarmWord : Success");
                     return "success";
                 }
@@ -90,46 +124,130 @@ public class ParticipateService {
 
     /**
      * 이벤트에 참여합니다.
+     * 참여 여부를 미리 조회하지 않고 좌석 수 증가와 참여 기록 저장을 바로 시도하며, (이벤트, 사용자) 유일 제약 위반은 이미 참여한 것으로 처리합니다.
+     * 좌석 수 증가는 "현재 인원 < 최대 인원" 조건을 건 단일 UPDATE로 처리하고, 참여 기록 저장과 같은 트랜잭션에서 수행합니다.
+     * hot event는 메모리 카운터로 즉시 승인하고 참여 기록은 나중에 모아서 기록합니다.
+     * 좌석이 가득 찬 경우 대기열에 등록하고 대기 순번을 반환합니다.
+     * 대기열 등록은 참여 취소와 같은 이벤트 행 잠금 아래에서 좌석을 다시 확인한 뒤 수행하므로, 그 사이 비워진 좌석을 두고 대기하는 일이 없습니다.
+     * 멱등 키가 주어지면 같은 키로 처리된 요청의 결과를 다시 반환하고 새로 처리하지 않습니다.
+     * 같은 키의 요청이 동시에 들어오면 먼저 들어온 요청이 끝날 때까지 기다린 뒤 그 결과를 반환합니다.
      *
      * @param participateDto 이벤트 참여 정보를 담은 데이터 전송 객체
-     * @return 이벤트 참여 성공 여부를 나타내는 문자열
+     * @param idempotencyKey 클라이언트가 지정한 멱등 키, 없으면 null
+     * @return 이벤트 참여 성공 여부 또는 대기 순번을 나타내는 문자열
      * @throws Exception 이벤트 참여 과정에서 발생할 수 있는 예외
      */
-    public String participateEvent(ParticipateDto participateDto) throws Exception {
+    @Transactional(rollbackFor = Exception.class)
+    public String participateEvent(ParticipateDto participateDto, String idempotencyKey) throws Exception {
         try {
             Optional<User> user = userRepository.findByEmail(getCurrentMemberEmail());
 
             if(user.isPresent()) {
-                Optional<Event> event = eventRepository.findById(participateDto.getEventId());
+                IdempotencyRecord idempotencyRecord = null;
+                if(idempotencyKey != null && !idempotencyKey.isBlank()) {
+                    if(idempotencyKey.length() > IdempotencyRecord.KEY_LENGTH) {
+                        log.error("participateEvent : Idempotency-Key too long");
+                        throw new Exception("Idempotency-Key must be at most " + IdempotencyRecord.KEY_LENGTH + " characters");
+                    }
+                    Optional<IdempotencyRecord> stored = idempotencyRecordRepository.findByUserIdAndIdempotencyKey(user.get().getId(), idempotencyKey);
+                    if(stored.isPresent() && stored.get().getResponse() != null) {
+                        log.info("participateEvent : Replayed");
+                        return stored.get().getResponse();
+                    }
+                    idempotencyRecord = claimIdempotencyKey(user.get().getId(), idempotencyKey);
+                    if(idempotencyRecord.getResponse() != null) {
+                        log.info("participateEvent : Replayed");
+                        return idempotencyRecord.getResponse();
+                    }
+                }
 
-                if(event.isPresent()) {
-                    Optional<EventParticipation> checkParticipation = eventParticipationRepository.findEventParticipationByEventAndUser(event.get(),user.get());
+                String result = participate(participateDto.getEventId(), user.get());
+                if(idempotencyRecord != null) {
+                    idempotencyRecord.setResponse(result);
+                }
+                return result;
+            }
 
-                    if(checkParticipation.isPresent()) {
-                        log.error("participateEvent : already participate");
-                        throw new Exception("already participate");
-                    }
+            log.error("participateEvent : Not Found User");
+            throw new Exception("Not Found User");
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
 
-                    if(event.get().getMaxParticipation() == event.get().getCurrentParticipation()) {
-                        log.error("participateEvent : MaxParticipate");
-                        throw new Exception("Full participation");
-                    }
+    /**
+     * 여러 사용자를 한 번에 이벤트에 참여시킵니다.
+     * 이벤트를 잠근 뒤 사용자 조회, 기존 참여자 조회, 좌석 수 증가, 참여 기록 배치 삽입을 차례로 수행하므로
+     * 인원 수와 관계없이 실행되는 쿼리 수가 일정합니다.
+     * partial이 false라면 모든 사용자가 참여할 수 있을 때만 참여시키고, 그렇지 않으면 예외를 던집니다.
+     * partial이 true라면 가능한 사용자만 참여시키고 사용자별 결과를 반환합니다.
+     *
+     * @param participateBatchDto 이벤트 ID와 참여할 사용자 이메일 목록을 담은 데이터 전송 객체
+     * @return 참여 인원과 사용자별 참여 결과
+     * @throws Exception 이벤트 참여 과정에서 발생할 수 있는 예외
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ParticipateBatchResultDto participateEvents(ParticipateBatchDto participateBatchDto) throws Exception {
+        try {
+            Optional<User> user = userRepository.findByEmail(getCurrentMemberEmail());
+            if(user.isEmpty()) {
+                log.error("participateEvents : Not Found User");
+                throw new Exception("Not Found User");
+            }
 
-                    event.get().setCurrentParticipation(event.get().getCurrentParticipation()+1);
-                    eventRepository.save(event.get());
-                    EventParticipation eventParticipation = new EventParticipation(user.get(),event.get());
-                    eventParticipationRepository.save(eventParticipation);
+            long eventId = participateBatchDto.getEventId();
+            Optional<Event> event = eventRepository.findByIdForUpdate(eventId);
+            if(event.isEmpty()) {
+                log.error("participateEvents : Not Found Event");
+                throw new Exception("Not Found Event");
+            }
+            if(!Objects.equals(user.get().getEmail(), event.get().getUser().getEmail())) {
+                log.error("participateEvents : User is not correct");
+                throw new Exception("User is not correct");
+            }
 
-                    log.info("participateEvent : Success");
-                    return "success";
+            Set<String> emails = new LinkedHashSet<>(participateBatchDto.getEmails() == null ? List.of() : participateBatchDto.getEmails());
+            Map<String, Long> userIdByEmail = new HashMap<>();
+            if(!emails.isEmpty()) {
+                for(UserIdView member : userRepository.findIdsByEmailIn(emails)) {
+                    userIdByEmail.put(member.getEmail(), member.getId());
                 }
+            }
 
-                log.error("participateEvent : Not Found Event");
-                throw new Exception("Not Found Event");
+            Map<String, String> results = new LinkedHashMap<>();
+            List<Long> memberIds = new ArrayList<>();
+            for(String email : emails) {
+                Long memberId = userIdByEmail.get(email);
+                if(memberId == null) {
+                    results.put(email, "Not Found User");
+                } else {
+                    memberIds.add(memberId);
+                }
+            }
+            if(!participateBatchDto.isPartial() && !results.isEmpty()) {
+                log.error("participateEvents : Not Found User");
+                throw new Exception("Not Found User");
             }
 
-            log.error("participateEvent : Not Found User");
-            throw new Exception("Not Found User");
+            Map<Long, String> memberResults = hotSeatCounter.isHot(eventId)
+                    ? participateHotEvent(eventId, memberIds, participateBatchDto.isPartial())
+                    : participateEvent(event.get(), memberIds, participateBatchDto.isPartial());
+
+            int participated = 0;
+            for(String email : emails) {
+                Long memberId = userIdByEmail.get(email);
+                if(memberId != null) {
+                    String result = memberResults.get(memberId);
+                    if("success".equals(result)) {
+                        participated++;
+                    }
+                    results.put(email, result);
+                }
+            }
+
+            log.info("participateEvents : Success " + participated + " / " + emails.size());
+            return new ParticipateBatchResultDto(eventId, participated, results);
         } catch(Exception err) {
             log.error(String.valueOf(err));
             throw err;
@@ -138,34 +256,57 @@ public class ParticipateService {
 
     /**
      * 이벤트 참여를 취소합니다.
+     * 참여 기록 삭제와 좌석 수 감소를 같은 트랜잭션에서 수행합니다.
+     * 대기열에 사용자가 있다면 좌석을 비우지 않고 가장 먼저 대기한 사용자를 같은 트랜잭션에서 참여자로 승격하고 알림을 보냅니다.
+     * 대기열 확인과 좌석 반환은 이벤트 행을 잠근 채 수행해 동시에 대기열에 등록하는 요청과 순서를 맞춥니다.
+     * 참여하지 않고 대기 중인 이벤트라면 대기열에서 빠집니다.
      *
      * @param participateDto 참여 취소할 이벤트 정보를 담은 데이터 전송 객체
      * @return 이벤트 참여 취소 성공 여부를 나타내는 문자열
      * @throws Exception 이벤트 참여 취소 과정에서 발생할 수 있는 예외
      */
+    @Transactional(rollbackFor = Exception.class)
     public String deleteParticipateEvent(ParticipateDto participateDto) throws Exception {
         try {
             Optional<User> user = userRepository.findByEmail(getCurrentMemberEmail());
 
             if(user.isPresent()) {
-                Optional<Event> event = eventRepository.findById(participateDto.getEventId());
-
-                if(event.isPresent()) {
-                    Optional<EventParticipation> eventParticipation = eventParticipationRepository.findEventParticipationByEventAndUser(event.get(),user.get());
+                long eventId = participateDto.getEventId();
+                long userId = user.get().getId();
+                boolean hot = hotSeatCounter.isHot(eventId);
+                if(hot) {
+                    hotSeatCounter.flush();
+                }
+                if(eventRepository.findByIdForUpdate(eventId).isEmpty()) {
+                    log.error("deleteParticipateEvent : Not Found Event");
+                    throw new Exception("Not Found Event");
+                }
 
-                    if(eventParticipation.isPresent()) {
-                        eventParticipationRepository.delete(eventParticipation.get());
-                        event.get().setCurrentParticipation(event.get().getCurrentParticipation()-1);
-                        eventRepository.save(event.get());
-                        log.info("deleteParticipateEvent : Success");
+                if(eventParticipationRepository.deleteByEventIdAndUserId(eventId, userId) == 0) {
+                    if(eventWaitlistRepository.deleteByEventIdAndUserId(eventId, userId) > 0) {
+                        log.info("deleteParticipateEvent : Left waitlist");
                         return "success";
                     }
                     log.error("deleteParticipateEvent : Not Found Participate Event");
                     throw new Exception("Not Found Participate Event");
                 }
 
-                log.error("deleteParticipateEvent : Not Found Event");
-                throw new Exception("Not Found Event");
+                Optional<EventWaitlist> head = eventWaitlistRepository.lockHead(eventId);
+                if(head.isPresent()) {
+                    long promotedUserId = promote(head.get());
+                    if(hot) {
+                        afterCommit(() -> hotSeatCounter.transfer(eventId, userId, promotedUserId));
+                    }
+                } else {
+                    eventRepository.decreaseParticipation(eventId);
+                    afterCommit(() -> eventCache.invalidate(eventId));
+                    if(hot) {
+                        hotSeatCounter.release(eventId, userId);
+                        afterRollback(() -> hotSeatCounter.load(eventId));
+                    }
+                }
+                log.info("deleteParticipateEvent : Success");
+                return "success";
             }
 
             log.error("deleteParticipateEvent : Not Found User");
@@ -175,4 +316,196 @@ public class ParticipateService {
             throw err;
         }
     }
+
+    /**
+     * 이벤트 대기열에서 현재 사용자의 순번을 조회합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 1부터 시작하는 대기 순번
+     * @throws Exception 대기 순번 조회 과정에서 발생할 수 있는 예외
+     */
+    public long getWaitlistPosition(long eventId) throws Exception {
+        try {
+            Optional<User> user = userRepository.findByEmail(getCurrentMemberEmail());
+
+            if(user.isPresent()) {
+                Optional<EventWaitlist> waitlist = eventWaitlistRepository.findByEventIdAndUserId(eventId, user.get().getId());
+                if(waitlist.isPresent()) {
+                    log.info("getWaitlistPosition : Success");
+                    return eventWaitlistRepository.countByEventIdAndIdLessThanEqual(eventId, waitlist.get().getId());
+                }
+
+                log.error("getWaitlistPosition : Not Found Waitlist");
+                throw new Exception("Not Found Waitlist");
+            }
+
+            log.error("getWaitlistPosition : Not Found User");
+            throw new Exception("Not Found User");
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
+    private String participate(long eventId, User user) throws Exception {
+        if(hotSeatCounter.isHot(eventId)) {
+            HotSeatCounter.Admission admission = hotSeatCounter.tryAdmit(eventId, user.getId());
+            if(admission == HotSeatCounter.Admission.FULL) {
+                lockEvent(eventId);
+                admission = hotSeatCounter.tryAdmit(eventId, user.getId());
+            }
+            if(admission == HotSeatCounter.Admission.ALREADY_PARTICIPATING) {
+                log.error("participateEvent : already participate");
+                throw new Exception("already participate");
+            }
+            if(admission == HotSeatCounter.Admission.FULL) {
+                return joinWaitlist(eventId, user.getId());
+            }
+            afterRollback(() -> hotSeatCounter.revoke(eventId, user.getId()));
+            log.info("participateEvent : Success");
+            return "success";
+        }
+
+        if(eventRepository.increaseParticipation(eventId) == 0) {
+            lockEvent(eventId);
+            if(eventRepository.increaseParticipation(eventId) == 0) {
+                if(eventParticipationRepository.existsByEvent_IdAndUser_Id(eventId, user.getId())) {
+                    log.error("participateEvent : already participate");
+                    throw new Exception("already participate");
+                }
+                return joinWaitlist(eventId, user.getId());
+            }
+        }
+
+        try {
+            eventParticipationRepository.saveAndFlush(new EventParticipation(user, eventRepository.getReferenceById(eventId)));
+        } catch(DataIntegrityViolationException err) {
+            log.error("participateEvent : already participate");
+            throw new Exception("already participate");
+        }
+        eventWaitlistRepository.deleteByEventIdAndUserId(eventId, user.getId());
+        afterCommit(() -> eventCache.invalidate(eventId));
+
+        log.info("participateEvent : Success");
+        return "success";
+    }
+
+    private Map<Long, String> participateEvent(Event event, List<Long> memberIds, boolean partial) throws Exception {
+        Map<Long, String> results = new HashMap<>();
+        Set<Long> existing = new HashSet<>(memberIds.isEmpty() ? List.of() : eventParticipationRepository.findUserIdsByEventIdAndUserIdIn(event.getId(), memberIds));
+        long remaining = Math.max(event.getMaxParticipation() - event.getCurrentParticipation(), 0);
+
+        List<Long> admitted = new ArrayList<>();
+        for(Long memberId : memberIds) {
+            if(existing.contains(memberId)) {
+                results.put(memberId, "already participate");
+            } else if(admitted.size() < remaining) {
+                admitted.add(memberId);
+                results.put(memberId, "success");
+            } else {
+                results.put(memberId, "Full participation");
+            }
+        }
+
+        if(!partial && admitted.size() < memberIds.size()) {
+            String reason = results.values().stream().filter(result -> !"success".equals(result)).findFirst().orElse("Full participation");
+            log.error("participateEvents : " + reason);
+            throw new Exception(reason);
+        }
+
+        if(!admitted.isEmpty()) {
+            if(eventRepository.increaseParticipation(event.getId(), admitted.size()) == 0) {
+                log.error("participateEvents : MaxParticipate");
+                throw new Exception("Full participation");
+            }
+            eventParticipationRepository.insertAll(event.getId(), admitted);
+            eventWaitlistRepository.deleteByEventIdAndUserIdIn(event.getId(), admitted);
+            afterCommit(() -> eventCache.invalidate(event.getId()));
+        }
+        return results;
+    }
+
+    private Map<Long, String> participateHotEvent(long eventId, List<Long> memberIds, boolean partial) throws Exception {
+        Map<Long, String> results = new HashMap<>();
+        List<Long> admitted = new ArrayList<>();
+        for(Map.Entry<Long, HotSeatCounter.Admission> admission : hotSeatCounter.tryAdmitAll(eventId, memberIds, partial).entrySet()) {
+            switch(admission.getValue()) {
+                case ADMITTED -> {
+                    results.put(admission.getKey(), "success");
+                    admitted.add(admission.getKey());
+                }
+                case ALREADY_PARTICIPATING -> results.put(admission.getKey(), "already participate");
+                case FULL -> results.put(admission.getKey(), "Full participation");
+            }
+        }
+        afterRollback(() -> admitted.forEach(memberId -> hotSeatCounter.revoke(eventId, memberId)));
+
+        if(!partial && results.values().stream().anyMatch(result -> !"success".equals(result))) {
+            String reason = results.values().stream().filter(result -> !"success".equals(result)).findFirst().orElse("Full participation");
+            log.error("participateEvents : " + reason);
+            throw new Exception(reason);
+        }
+        return results;
+    }
+
+    /**
+     * 멱등 키를 현재 트랜잭션에서 선점합니다.
+     * 같은 키를 먼저 선점한 요청이 있다면 그 요청의 트랜잭션이 끝날 때까지 기다린 뒤, 새 트랜잭션에서 커밋된 기록을 읽어 반환합니다.
+     */
+    private IdempotencyRecord claimIdempotencyKey(long userId, String idempotencyKey) throws Exception {
+        if(idempotencyRecordRepository.insertIgnore(userId, idempotencyKey) > 0) {
+            return idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey).orElseThrow();
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        Optional<IdempotencyRecord> committed = transactionTemplate.execute(status -> idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey));
+        if(committed == null || committed.isEmpty() || committed.get().getResponse() == null) {
+            log.error("participateEvent : Duplicate request in progress");
+            throw new Exception("Duplicate request in progress");
+        }
+        return committed.get();
+    }
+
+    /**
+     * 보관 기간이 지난 멱등 키 기록을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${participate.idempotency.purge-delay-ms}")
+    @Transactional
+    public void purgeIdempotencyRecords() {
+        int deleted = idempotencyRecordRepository.deleteCreatedBefore(LocalDateTime.now().minus(Duration.ofMillis(idempotencyTtlMillis)));
+        if(deleted > 0) {
+            log.info("purgeIdempotencyRecords : " + deleted + " records");
+        }
+    }
+
+    /**
+     * 참여 취소와 같은 순서로 처리되도록 이벤트 행을 잠급니다.
+     * 잠금은 트랜잭션이 끝날 때까지 유지되며, 잠근 뒤에는 그 전에 커밋된 좌석 반환이 모두 보입니다.
+     */
+    private void lockEvent(long eventId) throws Exception {
+        if(eventRepository.findByIdForUpdate(eventId).isEmpty()) {
+            log.error("participateEvent : Not Found Event");
+            throw new Exception("Not Found Event");
+        }
+    }
+
+    private String joinWaitlist(long eventId, long userId) {
+        EventWaitlist waitlist = eventWaitlistRepository.findByEventIdAndUserId(eventId, userId)
+                .orElseGet(() -> eventWaitlistRepository.save(new EventWaitlist(eventId, userId)));
+        long position = eventWaitlistRepository.countByEventIdAndIdLessThanEqual(eventId, waitlist.getId());
+        log.info("participateEvent : Waitlist " + position);
+        return "waitlist " + position;
+    }
+
+    private long promote(EventWaitlist head) {
+        eventWaitlistRepository.delete(head);
+        User promoted = userRepository.getReferenceById(head.getUserId());
+        Event event = eventRepository.getReferenceById(head.getEventId());
+        eventParticipationRepository.save(new EventParticipation(promoted, event));
+        notificationOutboxService.enqueue(List.of(createPromotion(event.getId(), promoted.getEmail(), event.getName())));
+        log.info("deleteParticipateEvent : Promoted " + head.getUserId());
+        return head.getUserId();
+    }
 }
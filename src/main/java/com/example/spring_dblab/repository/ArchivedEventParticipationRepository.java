@@ -0,0 +1,20 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.ArchivedEventParticipation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface ArchivedEventParticipationRepository extends JpaRepository<ArchivedEventParticipation, Long> {
+    boolean existsByEventIdAndUserId(Long eventId, Long userId);
+
+    @Modifying
+    @Query(value = "insert into archived_event_participation (id, event_id, user_id, created_at) " +
+            "select id, event_id, user_id, created_at from event_participation where event_id in :eventIds", nativeQuery = true)
+    int copyFromEventParticipation(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -0,0 +1,26 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.ArchivedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+    @Query(value = "select id from event where created_at < :cutoff and hot = false " +
+            "order by created_at, id limit :limit for update skip locked", nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "insert into archived_event " +
+            "(id, name, description, summary, max_participation, current_participation, user_id, created_at, updated_at, archived_at) " +
+            "select id, name, description, summary, max_participation, current_participation, user_id, created_at, updated_at, :archivedAt " +
+            "from event where id in :eventIds", nativeQuery = true)
+    int copyFromEvent(@Param("eventIds") Collection<Long> eventIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
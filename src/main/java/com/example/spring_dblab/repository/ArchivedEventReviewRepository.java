@@ -0,0 +1,22 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.ArchivedEventReview;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedEventReviewRepository extends JpaRepository<ArchivedEventReview, Long> {
+    List<ArchivedEventReview> findByEventIdOrderByIdDesc(Long eventId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "insert into archived_event_review (id, event_id, user_id, review, score, created_at, updated_at) " +
+            "select id, event_id, user_id, review, score, created_at, updated_at from event_review where event_id in :eventIds", nativeQuery = true)
+    int copyFromEventReview(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -4,11 +4,31 @@ import com.example.spring_dblab.entitiy.Event;
 import com.example.spring_dblab.entitiy.EventParticipation;
 import com.example.spring_dblab.entitiy.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface EventParticipationRepository extends JpaRepository<EventParticipation, Long> {
+public interface EventParticipationRepository extends JpaRepository<EventParticipation, Long>, EventParticipationRepositoryCustom {
     Optional<EventParticipation> findEventParticipationByEventAndUser(Event event, User user);
     List<EventParticipation> findEventParticipationsByEvent(Event event);
+    boolean existsByEvent_IdAndUser_Id(long eventId, long userId);
+    long countByEvent_Id(long eventId);
+
+    @Query("select p.user.id from EventParticipation p where p.event.id = :eventId")
+    List<Long> findUserIdsByEventId(@Param("eventId") long eventId);
+
+    @Query("select p.user.id from EventParticipation p where p.event.id = :eventId and p.user.id in :userIds")
+    List<Long> findUserIdsByEventIdAndUserIdIn(@Param("eventId") long eventId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("delete from EventParticipation p where p.event.id = :eventId and p.user.id = :userId")
+    int deleteByEventIdAndUserId(@Param("eventId") long eventId, @Param("userId") long userId);
+
+    @Modifying
+    @Query("delete from EventParticipation p where p.event.id in :eventIds")
+    int deleteAllByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
 }
@@ -0,0 +1,7 @@
+package com.example.spring_dblab.repository;
+
+import java.util.Collection;
+
+public interface EventParticipationRepositoryCustom {
+    void insertAll(long eventId, Collection<Long> userIds);
+}
@@ -0,0 +1,34 @@
+package com.example.spring_dblab.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 이벤트 참여 기록을 JDBC 배치로 한 번에 삽입하는 구현.
+ */
+@RequiredArgsConstructor
+public class EventParticipationRepositoryImpl implements EventParticipationRepositoryCustom {
+    private static final String INSERT_SQL = "insert into event_participation "
+            + "(event_id, user_id, created_at, updated_at) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(long eventId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, eventId);
+            ps.setLong(2, userId);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+    }
+}
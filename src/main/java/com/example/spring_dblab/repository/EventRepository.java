@@ -1,21 +1,116 @@
 package com.example.spring_dblab.repository;
 
+import com.example.spring_dblab.dto.EventNameView;
+import com.example.spring_dblab.dto.EventSummaryDto;
+import com.example.spring_dblab.dto.EventTextView;
+import com.example.spring_dblab.dto.HotEventView;
 import com.example.spring_dblab.entitiy.Event;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event,Long> {
+    String SUMMARY_SELECT = "select new com.example.spring_dblab.dto.EventSummaryDto(" +
+            "e.id, e.name, e.summary, e.maxParticipation, e.currentParticipation, u.nickName, e.createdAt, " +
+            "coalesce(s.reviewCount, 0), coalesce(s.scoreSum, 0)) " +
+            "from Event e join e.user u left join EventReviewStat s on s.eventId = e.id ";
+
     Page<Event> findAll(Pageable pageable);
     List<Event> findByName(String name);
     List<Event> findEventsByCreatedAtBetween(LocalDateTime createdAt, LocalDateTime createdAt2);
     Optional<Event> findEventById(Long Id);
+
+    @Query(value = SUMMARY_SELECT + "order by e.id", countQuery = "select count(e) from Event e")
+    Page<EventSummaryDto> findSummaryPage(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "order by e.id")
+    Slice<EventSummaryDto> findSummarySlice(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where e.name = :name")
+    List<EventSummaryDto> findSummaryByName(@Param("name") String name);
+
+    @Query(SUMMARY_SELECT + "where e.createdAt between :start and :end")
+    List<EventSummaryDto> findSummaryByCreatedAtBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(SUMMARY_SELECT + "where e.name = :name order by e.id")
+    Stream<EventSummaryDto> streamSummaryByName(@Param("name") String name);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(SUMMARY_SELECT + "where e.createdAt between :start and :end order by e.createdAt, e.id")
+    Stream<EventSummaryDto> streamSummaryByCreatedAtBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query(SUMMARY_SELECT + "where e.id in :ids")
+    List<EventSummaryDto> findSummaryByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "order by e.createdAt desc, e.id desc")
+    List<EventSummaryDto> findLatestSummary(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where e.createdAt < :createdAt or (e.createdAt = :createdAt and e.id < :id) " +
+            "order by e.createdAt desc, e.id desc")
+    List<EventSummaryDto> findLatestSummaryBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") long id, Pageable pageable);
+
+    @Query("select e.id as id, e.name as name, e.description as description from Event e where e.id > :after order by e.id")
+    List<EventTextView> findTextAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("select e.id as id, e.name as name, e.description as description from Event e where e.id in :ids")
+    List<EventTextView> findTextByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select e.id as id, e.name as name, e.currentParticipation as currentParticipation from Event e where e.id > :after order by e.id")
+    List<EventNameView> findNameAfter(@Param("after") long after, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e join fetch e.user where e.id = :id")
+    Optional<Event> findByIdForUpdate(@Param("id") long id);
+
+    @Modifying
+    @Query("update Event e set e.currentParticipation = e.currentParticipation + 1, e.updatedAt = current_timestamp " +
+            "where e.id = :id and e.currentParticipation < e.maxParticipation")
+    int increaseParticipation(@Param("id") long id);
+
+    @Modifying
+    @Query("update Event e set e.currentParticipation = e.currentParticipation + :count, e.updatedAt = current_timestamp " +
+            "where e.id = :id and e.currentParticipation + :count <= e.maxParticipation")
+    int increaseParticipation(@Param("id") long id, @Param("count") long count);
+
+    @Modifying
+    @Query("update Event e set e.currentParticipation = e.currentParticipation - 1, e.updatedAt = current_timestamp " +
+            "where e.id = :id and e.currentParticipation > 0")
+    int decreaseParticipation(@Param("id") long id);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update event set summary = left(description, " + Event.SUMMARY_LENGTH + ") where summary is null limit :limit", nativeQuery = true)
+    int fillMissingSummaries(@Param("limit") int limit);
+
+    @Query("select e.id as id, e.maxParticipation as maxParticipation, e.currentParticipation as currentParticipation " +
+            "from Event e where e.hot = true")
+    List<HotEventView> findHotEvents();
+
+    @Query("select e.id as id, e.maxParticipation as maxParticipation, e.currentParticipation as currentParticipation " +
+            "from Event e where e.id = :id and e.hot = true")
+    Optional<HotEventView> findHotEvent(@Param("id") long id);
 }
@@ -1,17 +1,41 @@
 package com.example.spring_dblab.repository;
 
+import com.example.spring_dblab.dto.ReviewItemDto;
 import com.example.spring_dblab.entitiy.Event;
 import com.example.spring_dblab.entitiy.EventReview;
 import com.example.spring_dblab.entitiy.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventReviewRepository extends JpaRepository<EventReview,Long> {
+    String ITEM_SELECT = "select new com.example.spring_dblab.dto.ReviewItemDto(" +
+            "r.id, u.nickName, r.review, r.score, r.createdAt) " +
+            "from EventReview r join r.user u ";
+
     List<EventReview> findByEvent(Event event);
     Optional<EventReview> findEventReviewByEventAndUser(Event event, User user);
     Optional<EventReview> findEventReviewById(Long id);
+
+    @Modifying
+    @Query("delete from EventReview r where r.event.id in :eventIds")
+    int deleteAllByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    @Query(ITEM_SELECT + "where r.event.id = :eventId order by r.createdAt desc, r.id desc")
+    List<ReviewItemDto> findLatestItems(@Param("eventId") long eventId, Pageable pageable);
+
+    @Query(ITEM_SELECT +
+            "where r.event.id = :eventId and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<ReviewItemDto> findLatestItemsBefore(@Param("eventId") long eventId, @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") long id, Pageable pageable);
 }
@@ -0,0 +1,53 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.EventReviewStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+@Repository
+public interface EventReviewStatRepository extends JpaRepository<EventReviewStat, Long> {
+    @Modifying
+    @Query(value = "insert into event_review_stat (event_id, review_count, score_sum, score1, score2, score3, score4, score5) " +
+            "values (:eventId, 1, :score, :score = 1, :score = 2, :score = 3, :score = 4, :score = 5) " +
+            "on duplicate key update review_count = review_count + 1, score_sum = score_sum + :score, " +
+            "score1 = score1 + (:score = 1), score2 = score2 + (:score = 2), score3 = score3 + (:score = 3), " +
+            "score4 = score4 + (:score = 4), score5 = score5 + (:score = 5)", nativeQuery = true)
+    void addScore(@Param("eventId") long eventId, @Param("score") int score);
+
+    @Modifying
+    @Query(value = "update event_review_stat set review_count = review_count - 1, score_sum = score_sum - :score, " +
+            "score1 = score1 - (:score = 1), score2 = score2 - (:score = 2), score3 = score3 - (:score = 3), " +
+            "score4 = score4 - (:score = 4), score5 = score5 - (:score = 5) " +
+            "where event_id = :eventId", nativeQuery = true)
+    void removeScore(@Param("eventId") long eventId, @Param("score") int score);
+
+    @Modifying
+    @Query("delete from EventReviewStat s where s.eventId in :eventIds")
+    int deleteAllByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    @Query(value = "select greatest(coalesce((select max(event_id) from event_review), 0), " +
+            "coalesce((select max(event_id) from event_review_stat), 0))", nativeQuery = true)
+    long findMaxEventId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into event_review_stat (event_id, review_count, score_sum, score1, score2, score3, score4, score5) " +
+            "select event_id, count(*), sum(score), sum(score = 1), sum(score = 2), sum(score = 3), sum(score = 4), sum(score = 5) " +
+            "from event_review where event_id between :from and :to group by event_id " +
+            "on duplicate key update review_count = values(review_count), score_sum = values(score_sum), " +
+            "score1 = values(score1), score2 = values(score2), score3 = values(score3), " +
+            "score4 = values(score4), score5 = values(score5)", nativeQuery = true)
+    int rebuildRange(@Param("from") long from, @Param("to") long to);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from event_review_stat where event_id between :from and :to " +
+            "and not exists (select 1 from event_review r where r.event_id = event_review_stat.event_id)", nativeQuery = true)
+    int deleteOrphansInRange(@Param("from") long from, @Param("to") long to);
+}
@@ -0,0 +1,36 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.EventWaitlist;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventWaitlistRepository extends JpaRepository<EventWaitlist, Long> {
+    Optional<EventWaitlist> findByEventIdAndUserId(Long eventId, Long userId);
+
+    List<EventWaitlist> findByEventIdOrderByIdAsc(Long eventId);
+
+    long countByEventIdAndIdLessThanEqual(Long eventId, long id);
+
+    @Query(value = "select * from event_waitlist where event_id = :eventId order by id limit 1 for update skip locked", nativeQuery = true)
+    Optional<EventWaitlist> lockHead(@Param("eventId") long eventId);
+
+    @Modifying
+    @Query("delete from EventWaitlist w where w.eventId = :eventId and w.userId = :userId")
+    int deleteByEventIdAndUserId(@Param("eventId") long eventId, @Param("userId") long userId);
+
+    @Modifying
+    @Query("delete from EventWaitlist w where w.eventId = :eventId and w.userId in :userIds")
+    int deleteByEventIdAndUserIdIn(@Param("eventId") long eventId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("delete from EventWaitlist w where w.eventId in :eventIds")
+    int deleteAllByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -0,0 +1,23 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.NotificationDigest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationDigestRepository extends JpaRepository<NotificationDigest, Long>, NotificationDigestRepositoryCustom {
+    @Query(value = "select distinct user_id from notification_digest order by user_id limit :limit", nativeQuery = true)
+    List<Long> findBufferedUserIds(@Param("limit") int limit);
+
+    List<NotificationDigest> findByUserIdInOrderByIdAsc(Collection<Long> userIds);
+
+    @Modifying
+    @Query("delete from NotificationDigest d where d.eventId in :eventIds")
+    int deleteAllByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -0,0 +1,9 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.NotificationDigest;
+
+import java.util.List;
+
+public interface NotificationDigestRepositoryCustom {
+    void insertAll(List<NotificationDigest> digests);
+}
@@ -0,0 +1,37 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.NotificationDigest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 모아 받기 알림을 JDBC 배치로 한 번에 삽입하는 구현.
+ */
+@RequiredArgsConstructor
+public class NotificationDigestRepositoryImpl implements NotificationDigestRepositoryCustom {
+    private static final String INSERT_SQL = "insert into notification_digest "
+            + "(user_id, recipient, event_id, event_name, words, created_at) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<NotificationDigest> digests) {
+        if (digests.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, digests, digests.size(), (ps, digest) -> {
+            ps.setLong(1, digest.getUserId());
+            ps.setString(2, digest.getRecipient());
+            ps.setLong(3, digest.getEventId());
+            ps.setString(4, digest.getEventName());
+            ps.setString(5, digest.getWords());
+            ps.setTimestamp(6, now);
+        });
+    }
+}
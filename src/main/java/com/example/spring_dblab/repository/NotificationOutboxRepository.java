@@ -0,0 +1,36 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.NotificationOutbox;
+import com.example.spring_dblab.enums.OutboxStatusEnum;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long>, NotificationOutboxRepositoryCustom {
+    @Query(value = "select * from notification_outbox where status = 'PENDING' and next_attempt_at <= :now "
+            + "order by id limit :limit for update skip locked", nativeQuery = true)
+    List<NotificationOutbox> lockDueNotifications(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("update NotificationOutbox o set o.status = :status, o.updatedAt = current_timestamp where o.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") OutboxStatusEnum status);
+
+    @Modifying
+    @Query("update NotificationOutbox o set o.status = :status, o.sentAt = :sentAt, o.updatedAt = current_timestamp where o.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") OutboxStatusEnum status, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("update NotificationOutbox o set o.status = :to, o.updatedAt = current_timestamp where o.status = :from and o.updatedAt < :before")
+    int updateStatusUpdatedBefore(@Param("from") OutboxStatusEnum from, @Param("to") OutboxStatusEnum to, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("delete from NotificationOutbox o where o.eventId in :eventIds and o.status = :status")
+    int deleteAllByEventIdInAndStatus(@Param("eventIds") Collection<Long> eventIds, @Param("status") OutboxStatusEnum status);
+}
@@ -0,0 +1,9 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.NotificationOutbox;
+
+import java.util.List;
+
+public interface NotificationOutboxRepositoryCustom {
+    void insertAll(List<NotificationOutbox> notifications);
+}
@@ -0,0 +1,47 @@
+package com.example.spring_dblab.repository;
+
+import com.example.spring_dblab.entitiy.NotificationOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 outbox 행을 JDBC 배치로 한 번에 삽입하는 구현.
+ * IDENTITY 키를 쓰는 엔티티는 Hibernate가 배치 삽입을 하지 않으므로 JdbcTemplate을 사용한다.
+ */
+@RequiredArgsConstructor
+public class NotificationOutboxRepositoryImpl implements NotificationOutboxRepositoryCustom {
+    private static final String INSERT_SQL = "insert into notification_outbox "
+            + "(event_id, recipient, subject, content, status, attempts, next_attempt_at, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<NotificationOutbox> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, notification) -> {
+            if (notification.getEventId() == null) {
+                ps.setNull(1, Types.BIGINT);
+            } else {
+                ps.setLong(1, notification.getEventId());
+            }
+            ps.setString(2, notification.getRecipient());
+            ps.setString(3, notification.getSubject());
+            ps.setString(4, notification.getContent());
+            ps.setString(5, notification.getStatus().name());
+            ps.setInt(6, notification.getAttempts());
+            ps.setTimestamp(7, Timestamp.valueOf(notification.getNextAttemptAt()));
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.spring_dblab.repository;
 
+import com.example.spring_dblab.dto.AlarmWordView;
 import com.example.spring_dblab.entitiy.User;
 import com.example.spring_dblab.entitiy.UserAlarm;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserAlarmRepository extends JpaRepository<UserAlarm,Long> {
     Optional<UserAlarm> findUserAlarmByUserAndWord(User user, String word);
+
+    @Query("select u.id as userId, u.email as email, a.word as word, a.digest as digest from UserAlarm a join a.user u")
+    List<AlarmWordView> findAllAlarmWords();
 }
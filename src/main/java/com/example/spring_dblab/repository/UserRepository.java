@@ -1,10 +1,18 @@
 package com.example.spring_dblab.repository;
 
+import com.example.spring_dblab.dto.UserIdView;
 import com.example.spring_dblab.entitiy.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User,Long> {
     Optional<User> findByEmail(String email);
+
+    @Query("select u.id as id, u.email as email from User u where u.email in :emails")
+    List<UserIdView> findIdsByEmailIn(@Param("emails") Collection<String> emails);
 }
@@ -0,0 +1,97 @@
+package com.example.spring_dblab.review;
+
+import com.example.spring_dblab.dto.ReviewItemDto;
+import com.example.spring_dblab.dto.ReviewSummaryDto;
+import com.example.spring_dblab.entitiy.EventReviewStat;
+import com.example.spring_dblab.repository.EventReviewRepository;
+import com.example.spring_dblab.repository.EventReviewStatRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 이벤트별 최신 리뷰 첫 페이지와 리뷰 집계를 메모리에 보관하는 캐시.
+ * 첫 페이지는 허용되는 가장 큰 페이지 크기만큼 읽어 두고, 요청한 크기만큼 잘라 쓴다.
+ * 첫 페이지 캐시는 보관 중인 리뷰 수의 합으로, 집계 캐시는 항목 수로 크기를 제한하며 가장 오래 쓰이지 않은 항목부터 제거한다.
+ * 리뷰를 추가/삭제하거나 이벤트를 삭제하는 쪽은 커밋 후 {@link #invalidate(long)}를 호출한다.
+ */
+@Component
+public class ReviewCache {
+    static final int HEAD_SIZE = ReviewService.MAX_CURSOR_PAGE_SIZE + 1;
+
+    private final LoadingCache<Long, List<ReviewItemDto>> heads;
+    private final LoadingCache<Long, ReviewSummaryDto> summaries;
+
+    public ReviewCache(EventReviewRepository eventReviewRepository,
+                       EventReviewStatRepository eventReviewStatRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${review.cache.maximum-items}") long maximumItems,
+                       @Value("${review.cache.summary-maximum-size}") long summaryMaximumSize,
+                       @Value("${review.cache.ttl-ms}") long ttlMillis) {
+        this.heads = Caffeine.newBuilder()
+                .maximumWeight(maximumItems)
+                .weigher((Long eventId, List<ReviewItemDto> reviews) -> reviews.size() + 1)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build(eventId -> List.copyOf(eventReviewRepository.findLatestItems(eventId, PageRequest.of(0, HEAD_SIZE))));
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(summaryMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build(eventId -> loadSummary(eventReviewStatRepository, eventId));
+        CaffeineCacheMetrics.monitor(meterRegistry, heads, "review.page");
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, "review.summary");
+    }
+
+    /**
+     * 이벤트의 최신 리뷰를 최대 {@link #HEAD_SIZE}개까지 최신순으로 반환합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 변경할 수 없는 리뷰 목록
+     */
+    public List<ReviewItemDto> getHead(long eventId) {
+        return heads.get(eventId);
+    }
+
+    /**
+     * 이벤트의 리뷰 집계를 반환합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 리뷰 집계, 리뷰가 없다면 모두 0
+     */
+    public ReviewSummaryDto getSummary(long eventId) {
+        return summaries.get(eventId);
+    }
+
+    /**
+     * 이벤트의 리뷰 첫 페이지와 집계를 캐시에서 제거합니다.
+     * 진행 중인 조회가 있다면 조회가 끝난 뒤 제거되므로 변경 전 값이 남지 않습니다.
+     *
+     * @param eventId 이벤트 ID
+     */
+    public void invalidate(long eventId) {
+        heads.invalidate(eventId);
+        summaries.invalidate(eventId);
+    }
+
+    /**
+     * 모든 리뷰 집계를 캐시에서 제거합니다. 집계를 테이블에서 다시 계산한 뒤 호출합니다.
+     */
+    public void invalidateSummaries() {
+        summaries.invalidateAll();
+    }
+
+    private static ReviewSummaryDto loadSummary(EventReviewStatRepository eventReviewStatRepository, long eventId) {
+        EventReviewStat stat = eventReviewStatRepository.findById(eventId).orElseGet(EventReviewStat::new);
+        double averageScore = stat.getReviewCount() == 0 ? 0 : (double) stat.getScoreSum() / stat.getReviewCount();
+        List<Long> scoreCounts = List.of(stat.getScore1(), stat.getScore2(), stat.getScore3(), stat.getScore4(), stat.getScore5());
+        return new ReviewSummaryDto(eventId, stat.getReviewCount(), averageScore, scoreCounts);
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.spring_dblab.review;
 
+import com.example.spring_dblab.dto.CursorPageDto;
 import com.example.spring_dblab.dto.ReviewDeleteDto;
 import com.example.spring_dblab.dto.ReviewDto;
+import com.example.spring_dblab.dto.ReviewItemDto;
+import com.example.spring_dblab.dto.ReviewSummaryDto;
 import com.example.spring_dblab.entitiy.EventReview;
+import com.example.spring_dblab.event.EventVersionTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
+import static com.example.spring_dblab.utils.ConditionalGetUtil.conditional;
+
 /**
  * 이벤트 리뷰 관련 HTTP 요청을 처리하는 컨트롤러.
  * 리뷰 조회, 추가, 삭제 기능을 제공한다.
@@ -17,17 +25,51 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReviewController {
     private final ReviewService reviewService;
+    private final EventVersionTracker eventVersionTracker;
 
     /**
      * 특정 이벤트의 리뷰를 조회합니다.
      *
      * @param eventId 조회할 이벤트의 ID
+     * @param request 현재 요청, 리뷰가 바뀌지 않았다면 304를 반환하는 데 사용
      * @return 해당 이벤트의 리뷰 목록
      * @throws Exception 리뷰 조회 과정에서 발생할 수 있는 예외
      */
     @GetMapping()
-    public List<EventReview> getReview(@RequestParam(name="id") String eventId) throws Exception {
-        return reviewService.getReview(eventId);
+    public ResponseEntity<List<EventReview>> getReview(@RequestParam(name="id") String eventId, WebRequest request) throws Exception {
+        return conditional(request, reviewService.getReviewTag(eventId), () -> reviewService.getReview(eventId));
+    }
+
+    /**
+     * 커서 다음 위치부터 최신순으로 특정 이벤트의 리뷰를 반환합니다.
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어지는 목록을 받을 수 있습니다.
+     *
+     * @param eventId 조회할 이벤트의 ID
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지라면 생략
+     * @param size 페이지 크기
+     * @param request 현재 요청, 리뷰가 바뀌지 않았다면 304를 반환하는 데 사용
+     * @return 리뷰 목록과 다음 페이지 커서
+     * @throws Exception 리뷰 조회 과정에서 발생할 수 있는 예외
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<ReviewItemDto>> getReviewCursor(@RequestParam(name="id") long eventId,
+                                                                        @RequestParam(name="cursor", required = false) String cursor,
+                                                                        @RequestParam(name="size", defaultValue = "10") int size,
+                                                                        WebRequest request) throws Exception {
+        return conditional(request, eventVersionTracker.reviewTag(eventId), () -> reviewService.getReviewCursor(eventId, cursor, size));
+    }
+
+    /**
+     * 특정 이벤트의 리뷰 수, 평균 점수, 점수별 리뷰 수를 조회합니다.
+     *
+     * @param eventId 조회할 이벤트의 ID
+     * @param request 현재 요청, 리뷰가 바뀌지 않았다면 304를 반환하는 데 사용
+     * @return 해당 이벤트의 리뷰 집계
+     * @throws Exception 리뷰 집계 조회 과정에서 발생할 수 있는 예외
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ReviewSummaryDto> getReviewSummary(@RequestParam(name="id") long eventId, WebRequest request) throws Exception {
+        return conditional(request, eventVersionTracker.reviewTag(eventId), () -> reviewService.getReviewSummary(eventId));
     }
 
     /**
@@ -1,22 +1,31 @@
 package com.example.spring_dblab.review;
 
+import com.example.spring_dblab.dto.CursorPageDto;
 import com.example.spring_dblab.dto.ReviewDeleteDto;
 import com.example.spring_dblab.dto.ReviewDto;
+import com.example.spring_dblab.dto.ReviewItemDto;
+import com.example.spring_dblab.dto.ReviewSummaryDto;
 import com.example.spring_dblab.entitiy.Event;
 import com.example.spring_dblab.entitiy.EventReview;
 import com.example.spring_dblab.entitiy.User;
 import com.example.spring_dblab.repository.EventRepository;
 import com.example.spring_dblab.repository.EventReviewRepository;
+import com.example.spring_dblab.repository.EventReviewStatRepository;
 import com.example.spring_dblab.repository.UserRepository;
+import com.example.spring_dblab.event.EventVersionTracker;
+import com.example.spring_dblab.utils.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import static com.example.spring_dblab.utils.SecurityUtil.getCurrentMemberEmail;
+import static com.example.spring_dblab.utils.TransactionUtil.afterCommit;
 
 /**
  * 이벤트 리뷰와 관련된 서비스를 제공하는 클래스.
@@ -26,9 +35,14 @@ import static com.example.spring_dblab.utils.SecurityUtil.getCurrentMemberEmail;
 @Slf4j
 @RequiredArgsConstructor
 public class ReviewService {
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final EventReviewRepository eventReviewRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final EventReviewStatRepository eventReviewStatRepository;
+    private final ReviewCache reviewCache;
+    private final EventVersionTracker eventVersionTracker;
 
     /**
      * 특정 이벤트의 리뷰를 조회합니다.
@@ -54,13 +68,86 @@ public class ReviewService {
         }
     }
 
+    /**
+     * 특정 이벤트의 리뷰 목록 ETag를 반환합니다.
+     *
+     * @param eventId 이벤트의 ID
+     * @return 리뷰가 바뀔 때마다 달라지는 ETag
+     * @throws Exception ID가 숫자가 아닌 경우
+     */
+    public String getReviewTag(String eventId) throws Exception {
+        try {
+            return eventVersionTracker.reviewTag(Long.parseLong(eventId));
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
+    /**
+     * 커서 다음 위치부터 최신순으로 특정 이벤트의 리뷰를 조회합니다.
+     * 리뷰와 작성자 닉네임을 한 번의 조인 쿼리로 읽으므로 페이지 크기와 관계없이 쿼리는 한 번만 실행됩니다.
+     * 첫 페이지는 캐시에 보관된 최신 리뷰에서 잘라 반환합니다.
+     *
+     * @param eventId 조회할 이벤트의 ID
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기
+     * @return 리뷰 목록과 다음 페이지 커서
+     * @throws Exception 페이지 크기나 커서가 올바르지 않은 경우
+     */
+    public CursorPageDto<ReviewItemDto> getReviewCursor(long eventId, String cursor, int size) throws Exception {
+        try {
+            if(size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+                log.error("getReviewCursor : Invalid Size");
+                throw new Exception("Invalid Size");
+            }
+
+            List<ReviewItemDto> reviews;
+            if(cursor == null || cursor.isEmpty()) {
+                List<ReviewItemDto> head = reviewCache.getHead(eventId);
+                reviews = head.subList(0, Math.min(head.size(), size + 1));
+            } else {
+                CursorUtil.Cursor position = CursorUtil.decode(cursor);
+                reviews = eventReviewRepository.findLatestItemsBefore(eventId, position.getCreatedAt(), position.getId(), PageRequest.of(0, size + 1));
+            }
+
+            boolean hasNext = reviews.size() > size;
+            if(hasNext) {
+                reviews = reviews.subList(0, size);
+            }
+            ReviewItemDto last = reviews.isEmpty() ? null : reviews.get(reviews.size() - 1);
+            String nextCursor = hasNext ? CursorUtil.encode(last.getCreatedAt(), last.getId()) : null;
+
+            log.info("getReviewCursor : Success");
+            return new CursorPageDto<>(reviews, nextCursor, hasNext);
+        } catch(Exception err) {
+            log.error(String.valueOf(err));
+            throw err;
+        }
+    }
+
+    /**
+     * 특정 이벤트의 리뷰 수, 평균 점수, 점수별 리뷰 수를 조회합니다.
+     * 리뷰 목록을 읽지 않고 미리 집계된 값을 반환하며, 조회 결과는 캐시에 보관합니다.
+     *
+     * @param eventId 조회할 이벤트의 ID
+     * @return 리뷰 집계, 리뷰가 없다면 모두 0
+     */
+    public ReviewSummaryDto getReviewSummary(long eventId) {
+        ReviewSummaryDto summary = reviewCache.getSummary(eventId);
+        log.info("getReviewSummary : Success");
+        return summary;
+    }
+
     /**
      * 새로운 리뷰를 추가합니다.
+     * 이벤트의 리뷰 집계도 같은 트랜잭션에서 갱신합니다.
      *
      * @param reviewDto 추가할 리뷰 정보를 담은 데이터 전송 객체
      * @return 리뷰 추가 성공 여부를 나타내는 문자열
      * @throws Exception 리뷰 추가 과정에서 발생할 수 있는 예외
      */
+    @Transactional(rollbackFor = Exception.class)
     public String addReview(ReviewDto reviewDto) throws Exception {
         try {
             String userEmail = getCurrentMemberEmail();
@@ -72,6 +159,10 @@ public class ReviewService {
                 if(event.isPresent()) {
                     EventReview eventReview = new EventReview(user.get(), event.get(), reviewDto.getReview(), reviewDto.getScore());
                     eventReviewRepository.save(eventReview);
+                    long eventId = event.get().getId();
+                    eventReviewStatRepository.addScore(eventId, eventReview.getScore());
+                    afterCommit(() -> reviewCache.invalidate(eventId));
+                    afterCommit(() -> eventVersionTracker.touchReviews(eventId));
 
                     log.info("addReview : Success");
                     return "success";
@@ -91,11 +182,13 @@ public class ReviewService {
 
     /**
      * 기존 리뷰를 삭제합니다.
+     * 이벤트의 리뷰 집계도 같은 트랜잭션에서 갱신합니다.
      *
      * @param reviewDeleteDto 삭제할 리뷰 정보를 담은 데이터 전송 객체
      * @return 리뷰 삭제 성공 여부를 나타내는 문자열
      * @throws Exception 리뷰 삭제 과정에서 발생할 수 있는 예외
      */
+    @Transactional(rollbackFor = Exception.class)
     public String deleteReview(ReviewDeleteDto reviewDeleteDto) throws Exception {
         try {
             String userEmail = getCurrentMemberEmail();
@@ -106,6 +199,10 @@ public class ReviewService {
                     if(eventReview.isPresent()) {
                         if(Objects.equals(eventReview.get().getUser().getEmail(), user.get().getEmail())) {
                             eventReviewRepository.delete(eventReview.get());
+                            long eventId = eventReview.get().getEvent().getId();
+                            eventReviewStatRepository.removeScore(eventId, eventReview.get().getScore());
+                            afterCommit(() -> reviewCache.invalidate(eventId));
+                            afterCommit(() -> eventVersionTracker.touchReviews(eventId));
                             log.info("deleteReview : Success");
                             return "success";
                         }
@@ -0,0 +1,49 @@
+package com.example.spring_dblab.review;
+
+import com.example.spring_dblab.event.EventVersionTracker;
+import com.example.spring_dblab.repository.EventReviewStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트별 리뷰 집계를 event_review 테이블에서 다시 계산하는 작업.
+ * 리뷰 추가/삭제는 같은 트랜잭션에서 집계를 갱신하므로 평소에는 어긋나지 않지만,
+ * 집계 테이블이 생기기 전의 리뷰나 직접 수정된 데이터를 맞추기 위해 시작 시와 주기적으로 실행한다.
+ * 한 번에 잠그는 행을 줄이기 위해 이벤트 ID 범위를 나누어 각각 별도 트랜잭션으로 처리한다.
+ * 어떤 이벤트의 집계가 바뀌었는지 알 수 없으므로 끝난 뒤 모든 리뷰 응답과 이벤트 목록의 ETag를 바꾼다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReviewStatReconciler {
+    private final EventReviewStatRepository eventReviewStatRepository;
+    private final ReviewCache reviewCache;
+    private final EventVersionTracker eventVersionTracker;
+
+    @Value("${review.stat.reconcile-batch-size}")
+    private long batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${review.stat.reconcile-interval-ms}", fixedDelayString = "${review.stat.reconcile-interval-ms}")
+    public void reconcile() {
+        long maxEventId = eventReviewStatRepository.findMaxEventId();
+        long removed = 0;
+        for (long from = 1; from <= maxEventId; from += batchSize) {
+            long to = from + batchSize - 1;
+            try {
+                eventReviewStatRepository.rebuildRange(from, to);
+                removed += eventReviewStatRepository.deleteOrphansInRange(from, to);
+            } catch (Exception err) {
+                log.error("reconcile : Failed for events " + from + "-" + to + ", " + err);
+            }
+        }
+        reviewCache.invalidateSummaries();
+        eventVersionTracker.touchAllReviews();
+        log.info("reconcile : Review stats rebuilt up to event " + maxEventId + ", " + removed + " removed");
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.spring_dblab.utils;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.Callable;
+
+public class ConditionalGetUtil {
+    /**
+     * 요청의 If-None-Match가 현재 ETag와 같다면 본문 없이 304를 반환하고, 다르다면 본문을 만들어 반환합니다.
+     * 변경되지 않은 경우에는 본문을 만드는 조회 자체를 실행하지 않습니다.
+     * 태그는 본문보다 먼저 읽으므로, 그 사이에 변경이 커밋되더라도 새 본문이 이전 태그로 캐시될 뿐 오래된 본문이 새 태그로 남지는 않습니다.
+     *
+     * @param request 현재 요청
+     * @param eTag 현재 리소스의 ETag
+     * @param body 응답 본문을 만드는 작업
+     * @return 304 또는 ETag가 포함된 200 응답
+     * @throws Exception 응답 본문을 만드는 중 발생한 예외
+     */
+    public static <T> ResponseEntity<T> conditional(WebRequest request, String eTag, Callable<T> body) throws Exception {
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(body.call());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.spring_dblab.utils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Slf4j
+public class CursorUtil {
+    private static final String SEPARATOR = "|";
+
+    /**
+     * (생성 시각, ID) 위치를 클라이언트에 전달할 커서 문자열로 만듭니다.
+     *
+     * @param createdAt 마지막 항목의 생성 시각
+     * @param id 마지막 항목의 ID
+     * @return URL에 그대로 쓸 수 있는 커서 문자열
+     */
+    public static String encode(LocalDateTime createdAt, long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 (생성 시각, ID) 위치로 해석합니다.
+     *
+     * @param cursor 커서 문자열
+     * @return 커서가 가리키는 위치
+     * @throws Exception 커서 형식이 올바르지 않은 경우
+     */
+    public static Cursor decode(String cursor) throws Exception {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException err) {
+            log.error("Is not cursor");
+            throw new Exception("Invalid Cursor");
+        }
+    }
+
+    @Getter
+    public static class Cursor {
+        private final LocalDateTime createdAt;
+        private final long id;
+
+        private Cursor(LocalDateTime createdAt, long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+    }
+}
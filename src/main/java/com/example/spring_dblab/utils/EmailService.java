@@ -1,5 +1,6 @@
 package com.example.spring_dblab.utils;
 
+import com.example.spring_dblab.notification.SmtpTransportPool;
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
@@ -7,7 +8,6 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.io.UnsupportedEncodingException;
@@ -16,18 +16,24 @@ import java.io.UnsupportedEncodingException;
 @RequiredArgsConstructor
 public class EmailService {
     private final JavaMailSender javaMailSender;
+    private final SmtpTransportPool smtpTransportPool;
 
     @Value("${spring.mail.username}")
     private String ADMIN_ADDRESS;
 
-    @Async
-    public void sendMail(String sendTo, String word) throws MessagingException, UnsupportedEncodingException {
+    @Value("${notification.smtp.pooled}")
+    private boolean pooled;
+
+    public void sendMail(String sendTo, String subject, String text) throws MessagingException, UnsupportedEncodingException {
         MimeMessage message = javaMailSender.createMimeMessage();
         message.addRecipients(Message.RecipientType.TO,sendTo);
-        message.setSubject("이벤트 알림");
-        String text = word+" 단어를 포함한 이벤트가 등록되었습니다.";
+        message.setSubject(subject);
         message.setText(text,"utf-8");
         message.setFrom(new InternetAddress(ADMIN_ADDRESS,"no-reply"));
-        javaMailSender.send(message);
+        if(pooled) {
+            smtpTransportPool.send(message);
+        } else {
+            javaMailSender.send(message);
+        }
     }
 }
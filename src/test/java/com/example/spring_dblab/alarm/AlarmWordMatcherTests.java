@@ -0,0 +1,84 @@
+package com.example.spring_dblab.alarm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlarmWordMatcherTests {
+    @Test
+    void findsOverlappingAndNestedWords() {
+        AlarmWordMatcher matcher = new AlarmWordMatcher(Map.of(
+                "he", List.of(1L),
+                "she", List.of(1L),
+                "his", List.of(1L),
+                "hers", List.of(1L)));
+
+        assertEquals(Set.of("he", "she", "hers"), matcher.findWords("ushers"));
+        assertEquals(Set.of("his"), matcher.findWords("this"));
+    }
+
+    @Test
+    void findsHangulWordsInsideLongerWords() {
+        AlarmWordMatcher matcher = new AlarmWordMatcher(Map.of(
+                "콘서트", List.of(1L),
+                "서트", List.of(2L),
+                "서울 콘서트", List.of(3L),
+                "공연", List.of(4L)));
+
+        assertEquals(Set.of("콘서트", "서트", "서울 콘서트"), matcher.findWords("이번 주말 서울 콘서트 안내"));
+        assertEquals(Set.of("서트"), matcher.findWords("디저트와 서트"));
+    }
+
+    @Test
+    void followsFailureLinksAfterPartialMatches() {
+        AlarmWordMatcher matcher = new AlarmWordMatcher(Map.of(
+                "abcd", List.of(1L),
+                "bce", List.of(2L),
+                "c", List.of(3L)));
+
+        assertEquals(Set.of("bce", "c"), matcher.findWords("abce"));
+        assertEquals(Set.of("abcd", "c"), matcher.findWords("xabcd"));
+    }
+
+    @Test
+    void groupsMatchedWordsBySubscriber() {
+        AlarmWordMatcher matcher = new AlarmWordMatcher(Map.of(
+                "he", List.of(1L, 2L),
+                "she", List.of(1L),
+                "hers", List.of(3L, 3L)));
+
+        Map<Long, Set<String>> result = matcher.findSubscribers("ushers");
+
+        assertEquals(Set.of("he", "she"), result.get(1L));
+        assertEquals(Set.of("he"), result.get(2L));
+        assertEquals(Set.of("hers"), result.get(3L));
+        assertEquals(3, result.size());
+    }
+
+    @Test
+    void replacesSubscribersWithoutChangingTheOriginal() {
+        AlarmWordMatcher matcher = new AlarmWordMatcher(Map.of("공연", List.of(1L), "전시", List.of(2L)));
+
+        AlarmWordMatcher updated = matcher.withSubscribers(matcher.indexOf("공연"), List.of(5L, 6L));
+
+        assertEquals(Map.of(1L, Set.of("공연")), matcher.findSubscribers("공연 안내"));
+        assertEquals(Map.of(5L, Set.of("공연"), 6L, Set.of("공연")), updated.findSubscribers("공연 안내"));
+        assertEquals(Map.of(2L, Set.of("전시")), updated.findSubscribers("전시 안내"));
+        assertEquals(-1, matcher.indexOf("공"));
+    }
+
+    @Test
+    void ignoresEmptyWordsAndText() {
+        AlarmWordMatcher matcher = new AlarmWordMatcher(Map.of("", List.of(1L), "공연", List.of(2L)));
+
+        assertEquals(1, matcher.wordCount());
+        assertTrue(matcher.findWords(null).isEmpty());
+        assertTrue(matcher.findWords("").isEmpty());
+        assertTrue(new AlarmWordMatcher(Map.of()).findSubscribers("공연").isEmpty());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.spring_dblab.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventNameTrieTests {
+    @Test
+    void ordersTopKByParticipationThenHigherId() {
+        EventNameTrie trie = trie(3,
+                1, "jazz night", 5,
+                2, "jazz brunch", 5,
+                3, "jazz festival", 9,
+                4, "jam session", 7,
+                5, "rock night", 20);
+
+        assertEquals(List.of(3L, 4L, 2L), trie.top("ja"));
+        assertEquals(List.of(3L, 2L, 1L), trie.top("jazz"));
+        assertEquals(List.of(5L, 3L, 4L), trie.top(""));
+    }
+
+    @Test
+    void matchesPrefixesEndingInsideCompressedEdges() {
+        EventNameTrie trie = trie(5,
+                1, "international jazz festival", 3,
+                2, "international rock festival", 8);
+
+        assertEquals(List.of(2L, 1L), trie.top("inter"));
+        assertEquals(List.of(2L, 1L), trie.top("international "));
+        assertEquals(List.of(1L), trie.top("international j"));
+        assertEquals(List.of(1L), trie.top("international jazz fest"));
+        assertEquals(List.of(), trie.top("internatiomal"));
+        assertEquals(List.of(), trie.top("international jazz festival!"));
+    }
+
+    @Test
+    void keepsNamesThatArePrefixesOfOtherNames() {
+        EventNameTrie trie = trie(5,
+                1, "콘서트", 1,
+                2, "콘서트 투어", 2,
+                3, "콘", 0,
+                4, "콘서트", 1);
+
+        assertEquals(List.of(2L, 4L, 1L, 3L), trie.top("콘"));
+        assertEquals(List.of(2L, 4L, 1L), trie.top("콘서트"));
+        assertEquals(List.of(2L), trie.top("콘서트 "));
+        assertEquals(List.of(), trie.top("콘서트투어"));
+    }
+
+    @Test
+    void returnsNothingFromEmptyTrie() {
+        EventNameTrie trie = trie(3);
+
+        assertEquals(0, trie.size());
+        assertEquals(List.of(), trie.top(""));
+        assertEquals(List.of(), trie.top("jazz"));
+    }
+
+    @Test
+    void compressesSinglePaths() {
+        EventNameTrie single = trie(3, 1, "a", 1);
+        EventNameTrie longName = trie(3, 1, "a very long event name without branches", 1);
+
+        assertEquals(List.of(1L), longName.top("a very long"));
+        assertTrue(longName.memoryBytes() - single.memoryBytes() < 200);
+    }
+
+    @Test
+    void normalizesNames() {
+        assertEquals("jazz night", EventNameTrie.normalize("  Jazz NIGHT "));
+        assertEquals("", EventNameTrie.normalize(null));
+    }
+
+    private static EventNameTrie trie(int topK, Object... rows) {
+        int count = rows.length / 3;
+        long[] eventIds = new long[count];
+        String[] names = new String[count];
+        long[] participations = new long[count];
+        for (int i = 0; i < count; i++) {
+            eventIds[i] = ((Number) rows[i * 3]).longValue();
+            names[i] = EventNameTrie.normalize((String) rows[i * 3 + 1]);
+            participations[i] = ((Number) rows[i * 3 + 2]).longValue();
+        }
+        return new EventNameTrie(eventIds, names, participations, topK);
+    }
+}
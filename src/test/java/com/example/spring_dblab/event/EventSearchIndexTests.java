@@ -0,0 +1,114 @@
+package com.example.spring_dblab.event;
+
+import com.example.spring_dblab.dto.EventTextView;
+import com.example.spring_dblab.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventSearchIndexTests {
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventSearchIndex index = new EventSearchIndex(eventRepository, new SimpleMeterRegistry(), 10);
+
+    @Test
+    void tokenizesHangulIntoBigrams() {
+        assertEquals(List.of("서울", "콘서", "서트"), EventSearchIndex.tokenize("서울 콘서트!", false));
+        assertEquals(List.of("콘", "콘서", "서", "서트", "트"), EventSearchIndex.tokenize("콘서트", true));
+        assertEquals(List.of("k", "팝", "2024"), EventSearchIndex.tokenize("K팝 2024", false));
+    }
+
+    @Test
+    void findsEventsByHangulBigramQueries() {
+        index.index(1, "서울 재즈 콘서트", null);
+        index.index(2, "부산 콘서트", null);
+        index.index(3, "서울 마라톤", null);
+
+        assertEquals(Set.of(1L, 2L), Set.copyOf(index.search("콘서트", 0, 10).getEventIds()));
+        assertEquals(List.of(1L), index.search("서울 콘서트", 0, 10).getEventIds());
+        assertEquals(Set.of(1L, 2L), Set.copyOf(index.search("트", 0, 10).getEventIds()));
+        assertEquals(0, index.search("대구 콘서트", 0, 10).getTotal());
+    }
+
+    @Test
+    void ranksNameMatchesAboveDescriptionMatches() {
+        index.index(1, "공연 안내", "재즈 밴드가 출연합니다");
+        index.index(2, "재즈 공연", null);
+        index.index(3, "재즈 페스티벌", null);
+
+        EventSearchIndex.SearchResult result = index.search("재즈", 0, 10);
+        assertEquals(List.of(3L, 2L, 1L), result.getEventIds());
+        assertEquals(3, result.getTotal());
+
+        EventSearchIndex.SearchResult page = index.search("재즈", 1, 1);
+        assertEquals(List.of(2L), page.getEventIds());
+        assertEquals(3, page.getTotal());
+    }
+
+    @Test
+    void reindexingAndRemovingDropUnusedTerms() {
+        index.index(1, "재즈", null);
+        index.index(1, "락", null);
+        assertEquals(0, index.search("재즈", 0, 10).getTotal());
+        assertEquals(List.of(1L), index.search("락", 0, 10).getEventIds());
+        assertEquals(1, index.getTermCount());
+
+        index.remove(1);
+        assertEquals(0, index.search("락", 0, 10).getTotal());
+        assertEquals(0, index.getEventCount());
+        assertEquals(0, index.getTermCount());
+    }
+
+    @Test
+    void appliesChangesMadeDuringRebuild() {
+        List<Set<Long>> reread = new ArrayList<>();
+        when(eventRepository.findTextAfter(anyLong(), any())).thenAnswer(invocation -> {
+            index.index(1, "클래식 공연", null);
+            index.remove(2);
+            index.index(3, "재즈 축제", null);
+            return List.of(view(1, "재즈 공연", null), view(2, "락 공연", null));
+        });
+        when(eventRepository.findTextByIdIn(any())).thenAnswer(invocation -> {
+            reread.add(Set.copyOf(invocation.<Collection<Long>>getArgument(0)));
+            return List.of(view(1, "클래식 공연", null), view(3, "재즈 축제", null));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(Set.of(1L, 2L, 3L)), reread);
+        assertEquals(List.of(3L), index.search("재즈", 0, 10).getEventIds());
+        assertEquals(List.of(1L), index.search("공연", 0, 10).getEventIds());
+        assertEquals(0, index.search("락", 0, 10).getTotal());
+        assertEquals(2, index.getEventCount());
+        assertTrue(index.getTermCount() > 0);
+    }
+
+    private static EventTextView view(long id, String name, String description) {
+        return new EventTextView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
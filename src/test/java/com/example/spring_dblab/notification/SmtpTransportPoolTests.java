@@ -0,0 +1,121 @@
+package com.example.spring_dblab.notification;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmtpTransportPoolTests {
+    private static final int MESSAGES = 200;
+    private static final int POOL_SIZE = 4;
+    private static final int MAX_MESSAGES_PER_CONNECTION = 20;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("no-reply@test.com", "password"))
+            .withPerMethodLifecycle(true);
+
+    @Test
+    void reusesConnectionUntilMessageLimit() throws Exception {
+        JavaMailSenderImpl mailSender = mailSender();
+        SmtpTransportPool pool = new SmtpTransportPool(mailSender, 1, MAX_MESSAGES_PER_CONNECTION);
+        int messages = MAX_MESSAGES_PER_CONNECTION * 2 + 5;
+
+        for (int i = 0; i < messages; i++) {
+            pool.send(message(mailSender, i));
+        }
+        pool.close();
+
+        assertTrue(greenMail.waitForIncomingEmail(10_000, messages));
+        assertEquals(messages, pool.getSentMessages());
+        assertEquals(3, pool.getOpenedConnections());
+    }
+
+    @Test
+    void replacesConnectionAfterError() throws Exception {
+        JavaMailSenderImpl mailSender = mailSender();
+        SmtpTransportPool pool = new SmtpTransportPool(mailSender, 1, MAX_MESSAGES_PER_CONNECTION);
+
+        pool.send(message(mailSender, 0));
+        pool.send(message(mailSender, 1));
+        assertEquals(1, pool.getOpenedConnections());
+
+        MimeMessage noRecipient = mailSender.createMimeMessage();
+        noRecipient.setFrom("no-reply@test.com");
+        noRecipient.setSubject("이벤트 알림");
+        noRecipient.setText("받는 사람이 없는 메일", "utf-8");
+        assertThrows(MessagingException.class, () -> pool.send(noRecipient));
+
+        pool.send(message(mailSender, 2));
+        pool.close();
+
+        assertTrue(greenMail.waitForIncomingEmail(10_000, 3));
+        assertEquals(3, pool.getSentMessages());
+        assertEquals(2, pool.getOpenedConnections());
+    }
+
+    @Test
+    void sharesConnectionsAcrossConcurrentSenders() throws Exception {
+        JavaMailSenderImpl mailSender = mailSender();
+        SmtpTransportPool pool = new SmtpTransportPool(mailSender, POOL_SIZE, MAX_MESSAGES_PER_CONNECTION);
+
+        ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            MimeMessage message = message(mailSender, i);
+            futures.add(executor.submit(() -> {
+                pool.send(message);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        pool.close();
+
+        assertTrue(greenMail.waitForIncomingEmail(10_000, MESSAGES));
+        assertEquals(MESSAGES, greenMail.getReceivedMessages().length);
+        assertEquals(MESSAGES, pool.getSentMessages());
+        assertTrue(pool.getOpenedConnections() <= MESSAGES / MAX_MESSAGES_PER_CONNECTION + POOL_SIZE);
+    }
+
+    private JavaMailSenderImpl mailSender() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        mailSender.setUsername("no-reply@test.com");
+        mailSender.setPassword("password");
+
+        Properties properties = new Properties();
+        properties.setProperty("mail.transport.protocol", "smtp");
+        properties.setProperty("mail.smtp.auth", "true");
+        mailSender.setJavaMailProperties(properties);
+        return mailSender;
+    }
+
+    private MimeMessage message(JavaMailSenderImpl mailSender, int index) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        message.addRecipients(Message.RecipientType.TO, "user" + index + "@test.com");
+        message.setFrom("no-reply@test.com");
+        message.setSubject("이벤트 알림");
+        message.setText(index + " 단어를 포함한 이벤트가 등록되었습니다.", "utf-8");
+        return message;
+    }
+}
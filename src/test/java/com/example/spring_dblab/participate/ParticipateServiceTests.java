@@ -0,0 +1,104 @@
+package com.example.spring_dblab.participate;
+
+import com.example.spring_dblab.dto.ParticipateDto;
+import com.example.spring_dblab.entitiy.Event;
+import com.example.spring_dblab.entitiy.User;
+import com.example.spring_dblab.enums.RoleEnum;
+import com.example.spring_dblab.repository.EventParticipationRepository;
+import com.example.spring_dblab.repository.EventRepository;
+import com.example.spring_dblab.repository.EventWaitlistRepository;
+import com.example.spring_dblab.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class ParticipateServiceTests {
+    private static final int USERS = 10_000;
+    private static final int MAX_PARTICIPATION = 100;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private ParticipateService participateService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventParticipationRepository eventParticipationRepository;
+
+    @Autowired
+    private EventWaitlistRepository eventWaitlistRepository;
+
+    @Test
+    void concurrentJoinsNeverExceedMaxParticipation() throws Exception {
+        String prefix = "seat-test-" + System.nanoTime() + "-";
+        User organizer = userRepository.save(createUser(prefix + "organizer"));
+        Event event = eventRepository.save(new Event("seat test", "seat test", organizer, MAX_PARTICIPATION));
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(createUser(prefix + i));
+        }
+        userRepository.saveAll(users);
+
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger waiting = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (User user : users) {
+            futures.add(executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(user.getEmail(), "", List.of()));
+                ParticipateDto participateDto = new ParticipateDto();
+                participateDto.setEventId(event.getId());
+                try {
+                    if ("success".equals(participateService.participateEvent(participateDto, null))) {
+                        joined.incrementAndGet();
+                    } else {
+                        waiting.incrementAndGet();
+                    }
+                } catch (Exception ignored) {
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        try {
+            assertEquals(MAX_PARTICIPATION, joined.get());
+            assertEquals(MAX_PARTICIPATION, eventRepository.findById(event.getId()).orElseThrow().getCurrentParticipation());
+            assertEquals(MAX_PARTICIPATION, eventParticipationRepository.countByEvent_Id(event.getId()));
+            assertEquals(USERS - MAX_PARTICIPATION, waiting.get());
+            assertEquals(USERS - MAX_PARTICIPATION, eventWaitlistRepository.findByEventIdOrderByIdAsc(event.getId()).size());
+        } finally {
+            eventWaitlistRepository.deleteAll(eventWaitlistRepository.findByEventIdOrderByIdAsc(event.getId()));
+            eventParticipationRepository.deleteAll(eventParticipationRepository.findEventParticipationsByEvent(event));
+            eventRepository.delete(event);
+            userRepository.deleteAll(users);
+            userRepository.delete(organizer);
+        }
+    }
+
+    private User createUser(String name) {
+        return new User(name + "@test.com", "password", new ArrayList<>(List.of(RoleEnum.USER)), name, name);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.spring_dblab.review;
+
+import com.example.spring_dblab.dto.CursorPageDto;
+import com.example.spring_dblab.dto.ReviewItemDto;
+import com.example.spring_dblab.entitiy.Event;
+import com.example.spring_dblab.entitiy.EventReview;
+import com.example.spring_dblab.entitiy.User;
+import com.example.spring_dblab.enums.RoleEnum;
+import com.example.spring_dblab.repository.EventRepository;
+import com.example.spring_dblab.repository.EventReviewRepository;
+import com.example.spring_dblab.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReviewServiceTests {
+    private static final int REVIEWS = 45;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventReviewRepository eventReviewRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void reviewPagesRunOneQueryEach() throws Exception {
+        String prefix = "review-test-" + System.nanoTime() + "-";
+        User organizer = userRepository.save(createUser(prefix + "organizer"));
+        Event event = eventRepository.save(new Event("review test", "review test", organizer, 10));
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < REVIEWS; i++) {
+            users.add(createUser(prefix + i));
+        }
+        userRepository.saveAll(users);
+
+        List<EventReview> reviews = new ArrayList<>();
+        for (int i = 0; i < REVIEWS; i++) {
+            reviews.add(new EventReview(users.get(i), event, "review " + i, i % 5 + 1));
+        }
+        eventReviewRepository.saveAll(reviews);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        try {
+            Set<Long> seen = new HashSet<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                statistics.clear();
+                CursorPageDto<ReviewItemDto> page = reviewService.getReviewCursor(event.getId(), cursor, PAGE_SIZE);
+                assertEquals(1, statistics.getPrepareStatementCount());
+
+                for (ReviewItemDto review : page.getContent()) {
+                    assertTrue(seen.add(review.getId()));
+                    assertTrue(review.getNickName().startsWith(prefix));
+                }
+                cursor = page.getNextCursor();
+                pages++;
+            } while (cursor != null);
+
+            assertEquals(REVIEWS, seen.size());
+            assertEquals((REVIEWS + PAGE_SIZE - 1) / PAGE_SIZE, pages);
+        } finally {
+            eventReviewRepository.deleteAll(reviews);
+            eventRepository.delete(event);
+            userRepository.deleteAll(users);
+            userRepository.delete(organizer);
+        }
+    }
+
+    private User createUser(String name) {
+        return new User(name + "@test.com", "password", new ArrayList<>(List.of(RoleEnum.USER)), name, name);
+    }
+}